@@ -0,0 +1,87 @@
+package kitchenpos.menu;
+
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import kitchenpos.menu.domain.MenuProduct;
+import kitchenpos.menu.domain.MenuValidator;
+import kitchenpos.money.Money;
+import kitchenpos.product.domain.ProductPriceView;
+import kitchenpos.product.domain.ProductRepository;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MenuValidatorBenchmark {
+
+    @Param({"1", "5", "20"})
+    private int menuProducts;
+
+    private MenuValidator menuValidator;
+    private List<MenuProduct> products;
+    private Money menuPrice;
+
+    @Setup
+    public void setUp() {
+        final List<ProductPriceView> prices = new ArrayList<>();
+        products = new ArrayList<>();
+        for (int i = 0; i < menuProducts; i++) {
+            final long productId = i + 1L;
+            prices.add(price(productId, Money.of(8_000 + i * 1_000L)));
+            products.add(new MenuProduct(productId, 1 + i % 3));
+        }
+        menuValidator = new MenuValidator(null, productRepository(prices));
+        menuPrice = Money.of(8_000);
+    }
+
+    @Benchmark
+    public List<MenuProduct> validatePrice() {
+        menuValidator.validatePrice(products, menuPrice);
+        return products;
+    }
+
+    // 저장소 호출 비용은 빼고 검증 로직만 측정하도록, 가격 조회는 미리 만든 목록을 그대로 돌려준다.
+    private static ProductRepository productRepository(List<ProductPriceView> prices) {
+        return (ProductRepository) Proxy.newProxyInstance(
+                ProductRepository.class.getClassLoader(),
+                new Class<?>[]{ProductRepository.class},
+                (proxy, method, args) -> {
+                    if (method.getName().equals("findPriceViewsByIdIn")) {
+                        return prices;
+                    }
+                    throw new UnsupportedOperationException(method.getName());
+                }
+        );
+    }
+
+    private static ProductPriceView price(Long id, Money price) {
+        return new ProductPriceView() {
+            @Override
+            public Long getId() {
+                return id;
+            }
+
+            @Override
+            public Money getPrice() {
+                return price;
+            }
+        };
+    }
+}
@@ -0,0 +1,90 @@
+package kitchenpos.money;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MoneyBenchmark {
+
+    @Param({"1", "5", "20"})
+    private int menuProducts;
+
+    private List<Line> lines;
+    private BigDecimal decimalMenuPrice;
+    private Money menuPrice;
+
+    @Setup
+    public void setUp() {
+        final Random random = new Random(42);
+        lines = new ArrayList<>();
+        for (int i = 0; i < menuProducts; i++) {
+            final BigDecimal price = BigDecimal.valueOf(1_000 + random.nextInt(30_000)).setScale(Money.SCALE);
+            lines.add(new Line(price, 1 + random.nextInt(3)));
+        }
+        decimalMenuPrice = BigDecimal.valueOf(16_000).setScale(Money.SCALE);
+        menuPrice = Money.of(16_000);
+    }
+
+    @Benchmark
+    public boolean bigDecimal() {
+        BigDecimal sum = BigDecimal.ZERO;
+        for (final Line line : lines) {
+            sum = sum.add(line.decimalPrice.multiply(BigDecimal.valueOf(line.quantity)));
+        }
+        return decimalMenuPrice.compareTo(sum) > 0;
+    }
+
+    @Benchmark
+    public boolean moneyPlusTimes() {
+        Money sum = Money.ZERO;
+        for (final Line line : lines) {
+            sum = sum.plus(line.price.times(line.quantity));
+        }
+        return menuPrice.isGreaterThan(sum);
+    }
+
+    @Benchmark
+    public boolean moneySumOf() {
+        return menuPrice.isGreaterThan(Money.sumOf(lines, Line::getPrice, Line::getQuantity));
+    }
+
+    private static class Line {
+        private final BigDecimal decimalPrice;
+        private final Money price;
+        private final long quantity;
+
+        private Line(BigDecimal decimalPrice, long quantity) {
+            this.decimalPrice = decimalPrice;
+            this.price = Money.of(decimalPrice);
+            this.quantity = quantity;
+        }
+
+        private Money getPrice() {
+            return price;
+        }
+
+        private long getQuantity() {
+            return quantity;
+        }
+    }
+}
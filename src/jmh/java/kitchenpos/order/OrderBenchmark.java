@@ -0,0 +1,94 @@
+package kitchenpos.order;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import kitchenpos.menu.domain.MenuNamePriceView;
+import kitchenpos.money.Money;
+import kitchenpos.order.domain.Order;
+import kitchenpos.order.domain.OrderLineItem;
+import kitchenpos.order.domain.OrderMenus;
+import kitchenpos.order.domain.OrderStatus;
+import kitchenpos.order.ui.response.OrderResponse;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class OrderBenchmark {
+
+    @Param({"1", "10", "50"})
+    private int lineItems;
+
+    private Long[] menuIds;
+    private OrderMenus orderMenus;
+    private Order order;
+
+    @Setup
+    public void setUp() {
+        menuIds = new Long[lineItems];
+        final List<MenuNamePriceView> menus = new ArrayList<>();
+        final List<OrderLineItem> items = new ArrayList<>();
+        for (int i = 0; i < lineItems; i++) {
+            final long menuId = i + 1L;
+            final String name = "메뉴 " + menuId;
+            final Money price = Money.of(10_000 + i * 500L);
+            menuIds[i] = menuId;
+            menus.add(menu(menuId, name, price));
+            items.add(new OrderLineItem(menuId, null, menuId, name, price, 2));
+        }
+        orderMenus = OrderMenus.from(menus);
+        order = new Order(1L, 1L, OrderStatus.COOKING, LocalDateTime.now(), items);
+    }
+
+    @Benchmark
+    public Order createOrder() {
+        final Order newOrder = new Order(1L);
+        final List<OrderLineItem> items = new ArrayList<>(lineItems);
+        for (final Long menuId : menuIds) {
+            items.add(orderMenus.toOrderLineItem(newOrder, menuId, 2));
+        }
+        newOrder.addOrderLineItem(items);
+        return newOrder;
+    }
+
+    @Benchmark
+    public OrderResponse orderResponseFrom() {
+        return OrderResponse.from(order);
+    }
+
+    private static MenuNamePriceView menu(Long id, String name, Money price) {
+        return new MenuNamePriceView() {
+            @Override
+            public Long getId() {
+                return id;
+            }
+
+            @Override
+            public String getName() {
+                return name;
+            }
+
+            @Override
+            public Money getPrice() {
+                return price;
+            }
+        };
+    }
+}
@@ -0,0 +1,55 @@
+package kitchenpos.table;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import kitchenpos.table.domain.OrderTable;
+import kitchenpos.table.domain.OrderTables;
+import kitchenpos.table.domain.TableGroup;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TableGroupBenchmark {
+
+    @Param({"2", "10", "30"})
+    private int tables;
+
+    private List<Long> orderTableIds;
+
+    @Setup
+    public void setUp() {
+        orderTableIds = new ArrayList<>();
+        for (int i = 0; i < tables; i++) {
+            orderTableIds.add(i + 1L);
+        }
+    }
+
+    // 그룹 지정은 테이블 상태를 바꾸므로 매번 빈 테이블을 새로 만들며, 그 비용도 결과에 포함된다.
+    @Benchmark
+    public TableGroup group() {
+        final List<OrderTable> orderTables = new ArrayList<>(tables);
+        for (final Long orderTableId : orderTableIds) {
+            orderTables.add(new OrderTable(orderTableId, null, 0, true));
+        }
+        final TableGroup tableGroup = new TableGroup();
+        tableGroup.addOrderTables(OrderTables.of(orderTableIds, orderTables));
+        return tableGroup;
+    }
+}
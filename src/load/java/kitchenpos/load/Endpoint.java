@@ -0,0 +1,19 @@
+package kitchenpos.load;
+
+public enum Endpoint {
+    CREATE_ORDER("POST /api/orders"),
+    CHANGE_ORDER_STATUS("PUT /api/orders/{id}/order-status"),
+    CHANGE_TABLE_EMPTY("PUT /api/tables/{id}/empty"),
+    CREATE_TABLE_GROUP("POST /api/table-groups"),
+    LIST_MENUS("GET /api/menus");
+
+    private final String description;
+
+    Endpoint(String description) {
+        this.description = description;
+    }
+
+    public String getDescription() {
+        return description;
+    }
+}
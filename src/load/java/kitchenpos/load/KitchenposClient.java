@@ -0,0 +1,169 @@
+package kitchenpos.load;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadLocalRandom;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+import org.springframework.web.client.RestTemplate;
+
+import kitchenpos.order.ui.request.ChangeOrderStatusRequest;
+import kitchenpos.order.ui.request.CreateOrderRequest;
+import kitchenpos.order.ui.request.OrderLineItemRequest;
+import kitchenpos.table.ui.request.ChangeTableEmptyRequest;
+import kitchenpos.table.ui.request.CreateTableGroupRequest;
+import kitchenpos.table.ui.request.CreateTableRequest;
+import kitchenpos.table.ui.request.TableIdRequest;
+
+public class KitchenposClient {
+    private static final long[] DEFAULT_MENU_IDS = {1L, 2L, 3L, 4L, 5L, 6L};
+
+    private final RestTemplate restTemplate;
+    private final String baseUrl;
+    private final List<Long> orderTableIds = new ArrayList<>();
+    private final BlockingQueue<OrderProgress> orders = new LinkedBlockingQueue<>();
+    private final BlockingQueue<TableState> toggleTables = new LinkedBlockingQueue<>();
+    private final BlockingQueue<Long> groupTableIds = new LinkedBlockingQueue<>();
+
+    public KitchenposClient(RestTemplate restTemplate, int port) {
+        this.restTemplate = restTemplate;
+        this.baseUrl = "http://localhost:" + port;
+    }
+
+    // 측정 전에 주문을 받을 테이블, 상태를 바꿀 주문, 빈 테이블 여부를 바꿀 테이블, 그룹으로 지정할 테이블을 미리 만들어 둔다.
+    public void prepare(int tables, int tableGroups) {
+        for (int i = 0; i < tables; i++) {
+            final Long tableId = createTable(false);
+            orderTableIds.add(tableId);
+            orders.add(new OrderProgress(createOrder(tableId)));
+            toggleTables.add(new TableState(createTable(true), true));
+        }
+        for (int i = 0; i < tableGroups * 2; i++) {
+            groupTableIds.add(createTable(true));
+        }
+    }
+
+    public void call(Endpoint endpoint) throws InterruptedException {
+        switch (endpoint) {
+            case CREATE_ORDER:
+                createOrder();
+                return;
+            case CHANGE_ORDER_STATUS:
+                changeOrderStatus();
+                return;
+            case CHANGE_TABLE_EMPTY:
+                changeTableEmpty();
+                return;
+            case CREATE_TABLE_GROUP:
+                createTableGroup();
+                return;
+            case LIST_MENUS:
+                restTemplate.getForObject(baseUrl + "/api/menus", byte[].class);
+                return;
+            default:
+                throw new IllegalArgumentException("지원하지 않는 요청입니다. " + endpoint);
+        }
+    }
+
+    private void createOrder() {
+        orders.add(new OrderProgress(createOrder(randomOrderTableId())));
+    }
+
+    private Long randomOrderTableId() {
+        return orderTableIds.get(ThreadLocalRandom.current().nextInt(orderTableIds.size()));
+    }
+
+    private Long createOrder(Long tableId) {
+        final long menuId = DEFAULT_MENU_IDS[ThreadLocalRandom.current().nextInt(DEFAULT_MENU_IDS.length)];
+        final CreateOrderRequest request = new CreateOrderRequest(
+                tableId,
+                Collections.singletonList(new OrderLineItemRequest(menuId, 1 + ThreadLocalRandom.current().nextInt(3)))
+        );
+        return restTemplate.postForObject(baseUrl + "/api/orders", request, JsonNode.class)
+                           .get("id")
+                           .asLong();
+    }
+
+    // 조리중 -> 식사중 -> 계산 완료 순서로 상태를 바꾸고, 계산이 끝난 주문은 다시 쓰지 않는다.
+    // 바꿀 주문이 남아있지 않으면 주문을 새로 만들며, 그 시간도 측정에 포함된다.
+    private void changeOrderStatus() {
+        OrderProgress order = orders.poll();
+        if (Objects.isNull(order)) {
+            order = new OrderProgress(createOrder(randomOrderTableId()));
+        }
+        final String nextStatus = order.next();
+        try {
+            restTemplate.put(baseUrl + "/api/orders/" + order.id + "/order-status", new ChangeOrderStatusRequest(nextStatus));
+        } finally {
+            if (!"COMPLETION".equals(nextStatus)) {
+                orders.add(order);
+            }
+        }
+    }
+
+    private void changeTableEmpty() throws InterruptedException {
+        final TableState table = toggleTables.take();
+        try {
+            restTemplate.put(baseUrl + "/api/tables/" + table.id + "/empty", new ChangeTableEmptyRequest(!table.empty));
+            table.empty = !table.empty;
+        } finally {
+            toggleTables.add(table);
+        }
+    }
+
+    private void createTableGroup() {
+        final CreateTableGroupRequest request = new CreateTableGroupRequest(Arrays.asList(
+                new TableIdRequest(groupTableId()),
+                new TableIdRequest(groupTableId())
+        ));
+        restTemplate.postForObject(baseUrl + "/api/table-groups", request, JsonNode.class);
+    }
+
+    // 그룹으로 지정한 테이블은 다시 쓸 수 없다. 미리 만든 테이블이 떨어지면 새로 만들며, 그 시간도 측정에 포함된다.
+    private Long groupTableId() {
+        final Long tableId = groupTableIds.poll();
+        if (Objects.isNull(tableId)) {
+            return createTable(true);
+        }
+        return tableId;
+    }
+
+    private Long createTable(boolean empty) {
+        return restTemplate.postForObject(baseUrl + "/api/tables", new CreateTableRequest(0, empty), JsonNode.class)
+                           .get("id")
+                           .asLong();
+    }
+
+    private static class OrderProgress {
+        private final Long id;
+        private boolean meal;
+
+        private OrderProgress(Long id) {
+            this.id = id;
+        }
+
+        private String next() {
+            if (meal) {
+                return "COMPLETION";
+            }
+            meal = true;
+            return "MEAL";
+        }
+    }
+
+    private static class TableState {
+        private final Long id;
+        private boolean empty;
+
+        private TableState(Long id, boolean empty) {
+            this.id = id;
+            this.empty = empty;
+        }
+    }
+}
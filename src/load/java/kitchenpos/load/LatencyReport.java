@@ -0,0 +1,60 @@
+package kitchenpos.load;
+
+import java.io.PrintStream;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+public class LatencyReport {
+    private static final long HIGHEST_TRACKABLE_MICROS = TimeUnit.MINUTES.toMicros(1);
+    private static final int SIGNIFICANT_DIGITS = 3;
+
+    private final Map<Endpoint, Histogram> histograms = new EnumMap<>(Endpoint.class);
+    private final Map<Endpoint, LongAdder> errors = new EnumMap<>(Endpoint.class);
+
+    public LatencyReport() {
+        for (final Endpoint endpoint : Endpoint.values()) {
+            histograms.put(endpoint, new ConcurrentHistogram(HIGHEST_TRACKABLE_MICROS, SIGNIFICANT_DIGITS));
+            errors.put(endpoint, new LongAdder());
+        }
+    }
+
+    public void recordSuccess(Endpoint endpoint, long latencyNanos) {
+        final long micros = TimeUnit.NANOSECONDS.toMicros(latencyNanos);
+        histograms.get(endpoint).recordValue(Math.min(Math.max(micros, 1L), HIGHEST_TRACKABLE_MICROS));
+    }
+
+    public void recordError(Endpoint endpoint) {
+        errors.get(endpoint).increment();
+    }
+
+    public void print(PrintStream out, double measuredSeconds) {
+        out.printf("%-36s %8s %7s %9s %9s %9s %9s %9s%n",
+                "endpoint", "count", "errors", "req/s", "p50(ms)", "p99(ms)", "p999(ms)", "max(ms)");
+        for (final Endpoint endpoint : Endpoint.values()) {
+            final Histogram histogram = histograms.get(endpoint);
+            final long count = histogram.getTotalCount();
+            final long errorCount = errors.get(endpoint).sum();
+            if (count == 0 && errorCount == 0) {
+                continue;
+            }
+            out.printf("%-36s %8d %7d %9.1f %9.2f %9.2f %9.2f %9.2f%n",
+                    endpoint.getDescription(),
+                    count,
+                    errorCount,
+                    count / measuredSeconds,
+                    millis(histogram.getValueAtPercentile(50)),
+                    millis(histogram.getValueAtPercentile(99)),
+                    millis(histogram.getValueAtPercentile(99.9)),
+                    millis(histogram.getMaxValue()));
+        }
+    }
+
+    private static double millis(long micros) {
+        return micros / 1000.0;
+    }
+}
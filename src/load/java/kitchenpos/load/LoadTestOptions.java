@@ -0,0 +1,74 @@
+package kitchenpos.load;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+public class LoadTestOptions {
+    private static final String PREFIX = "load.";
+    private static final String DEFAULT_MIX = "create_order:30,change_order_status:20,change_table_empty:15,create_table_group:5,list_menus:30";
+
+    private final int rate;
+    private final int concurrency;
+    private final int warmupSeconds;
+    private final int durationSeconds;
+    private final Map<Endpoint, Integer> mix;
+
+    public LoadTestOptions(int rate, int concurrency, int warmupSeconds, int durationSeconds, Map<Endpoint, Integer> mix) {
+        if (rate < 1 || concurrency < 1) {
+            throw new IllegalArgumentException("초당 요청 수와 동시 실행 수는 1 이상이어야 합니다.");
+        }
+        if (warmupSeconds < 0 || durationSeconds < 1) {
+            throw new IllegalArgumentException("예열 시간은 0초 이상, 측정 시간은 1초 이상이어야 합니다.");
+        }
+        if (mix.values().stream().mapToInt(Integer::intValue).sum() < 1) {
+            throw new IllegalArgumentException("요청 비율의 합은 1 이상이어야 합니다.");
+        }
+        this.rate = rate;
+        this.concurrency = concurrency;
+        this.warmupSeconds = warmupSeconds;
+        this.durationSeconds = durationSeconds;
+        this.mix = mix;
+    }
+
+    public static LoadTestOptions fromSystemProperties() {
+        return new LoadTestOptions(
+                Integer.getInteger(PREFIX + "rate", 200),
+                Integer.getInteger(PREFIX + "concurrency", 16),
+                Integer.getInteger(PREFIX + "warmup-seconds", 5),
+                Integer.getInteger(PREFIX + "duration-seconds", 30),
+                parseMix(System.getProperty(PREFIX + "mix", DEFAULT_MIX))
+        );
+    }
+
+    static Map<Endpoint, Integer> parseMix(String value) {
+        final Map<Endpoint, Integer> mix = new EnumMap<>(Endpoint.class);
+        for (final String entry : value.split(",")) {
+            final String[] weight = entry.trim().split(":");
+            if (weight.length != 2) {
+                throw new IllegalArgumentException("요청 비율은 <endpoint>:<비율> 형식이어야 합니다. " + entry);
+            }
+            mix.put(Endpoint.valueOf(weight[0].trim().toUpperCase()), Integer.parseInt(weight[1].trim()));
+        }
+        return mix;
+    }
+
+    public int getRate() {
+        return rate;
+    }
+
+    public int getConcurrency() {
+        return concurrency;
+    }
+
+    public int getWarmupSeconds() {
+        return warmupSeconds;
+    }
+
+    public int getDurationSeconds() {
+        return durationSeconds;
+    }
+
+    public Map<Endpoint, Integer> getMix() {
+        return mix;
+    }
+}
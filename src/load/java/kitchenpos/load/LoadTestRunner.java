@@ -0,0 +1,119 @@
+package kitchenpos.load;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.web.servlet.context.ServletWebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.web.client.RestTemplate;
+
+import kitchenpos.Application;
+
+public class LoadTestRunner {
+    private static final int PREPARED_TABLES_PER_WORKER = 2;
+
+    private final LoadTestOptions options;
+    private final KitchenposClient client;
+    private final LatencyReport report = new LatencyReport();
+    private final Endpoint[] weightedEndpoints;
+
+    public LoadTestRunner(LoadTestOptions options, KitchenposClient client) {
+        this.options = options;
+        this.client = client;
+        this.weightedEndpoints = weightedEndpoints(options.getMix());
+    }
+
+    public static void main(String[] args) throws InterruptedException {
+        final LoadTestOptions options = LoadTestOptions.fromSystemProperties();
+        // HttpURLConnection은 기본으로 5개까지만 연결을 재사용하므로 동시 실행 수만큼 늘린다.
+        System.setProperty("http.maxConnections", String.valueOf(options.getConcurrency()));
+
+        try (ConfigurableApplicationContext context = startApplication()) {
+            final int port = ((ServletWebServerApplicationContext) context).getWebServer().getPort();
+            final KitchenposClient client = new KitchenposClient(new RestTemplate(), port);
+            new LoadTestRunner(options, client).run();
+        }
+    }
+
+    private static ConfigurableApplicationContext startApplication() {
+        return new SpringApplication(Application.class).run(
+                "--server.port=0",
+                "--spring.datasource.generate-unique-name=true",
+                "--spring.h2.console.enabled=false",
+                "--spring.jpa.show-sql=false",
+                "--logging.level.root=WARN",
+                "--logging.level.org.hibernate.type.descriptor.sql.BasicBinder=OFF"
+        );
+    }
+
+    public void run() throws InterruptedException {
+        client.prepare(options.getConcurrency() * PREPARED_TABLES_PER_WORKER, expectedCalls(Endpoint.CREATE_TABLE_GROUP));
+        System.out.printf("rate=%d req/s, concurrency=%d, warmup=%ds, duration=%ds, mix=%s%n",
+                options.getRate(), options.getConcurrency(), options.getWarmupSeconds(), options.getDurationSeconds(), options.getMix());
+
+        final ExecutorService workers = new ThreadPoolExecutor(
+                options.getConcurrency(), options.getConcurrency(), 0L, TimeUnit.MILLISECONDS, new LinkedBlockingQueue<>());
+        final long periodNanos = TimeUnit.SECONDS.toNanos(1) / options.getRate();
+        final long startNanos = System.nanoTime();
+        final long measureStartNanos = startNanos + TimeUnit.SECONDS.toNanos(options.getWarmupSeconds());
+        final long endNanos = measureStartNanos + TimeUnit.SECONDS.toNanos(options.getDurationSeconds());
+
+        // 요청마다 보내기로 예정된 시각을 정해두고 그 시각부터 응답까지를 잰다.
+        // 서버가 느려져 요청이 밀리면 그 대기 시간도 지연 시간에 포함된다.
+        for (long i = 0; ; i++) {
+            final long scheduledNanos = startNanos + i * periodNanos;
+            if (scheduledNanos >= endNanos) {
+                break;
+            }
+            waitUntil(scheduledNanos);
+            final Endpoint endpoint = weightedEndpoints[ThreadLocalRandom.current().nextInt(weightedEndpoints.length)];
+            workers.execute(() -> call(endpoint, scheduledNanos, scheduledNanos >= measureStartNanos));
+        }
+        workers.shutdown();
+        workers.awaitTermination(1, TimeUnit.MINUTES);
+
+        report.print(System.out, options.getDurationSeconds());
+    }
+
+    private void call(Endpoint endpoint, long scheduledNanos, boolean measured) {
+        try {
+            client.call(endpoint);
+            if (measured) {
+                report.recordSuccess(endpoint, System.nanoTime() - scheduledNanos);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (RuntimeException e) {
+            if (measured) {
+                report.recordError(endpoint);
+            }
+        }
+    }
+
+    private int expectedCalls(Endpoint endpoint) {
+        final int totalWeight = options.getMix().values().stream().mapToInt(Integer::intValue).sum();
+        final long totalCalls = (long) options.getRate() * (options.getWarmupSeconds() + options.getDurationSeconds());
+        return (int) (totalCalls * options.getMix().getOrDefault(endpoint, 0) / totalWeight);
+    }
+
+    private static Endpoint[] weightedEndpoints(Map<Endpoint, Integer> mix) {
+        return mix.entrySet()
+                  .stream()
+                  .flatMap(entry -> Collections.nCopies(entry.getValue(), entry.getKey()).stream())
+                  .toArray(Endpoint[]::new);
+    }
+
+    private static void waitUntil(long deadlineNanos) {
+        long remaining;
+        while ((remaining = deadlineNanos - System.nanoTime()) > 0) {
+            LockSupport.parkNanos(remaining);
+        }
+    }
+}
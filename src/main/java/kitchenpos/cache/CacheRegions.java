@@ -0,0 +1,20 @@
+package kitchenpos.cache;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+public final class CacheRegions {
+    public static final String PRODUCT = "kitchenpos.product";
+    public static final String MENU_GROUP = "kitchenpos.menu-group";
+    public static final String MENU = "kitchenpos.menu";
+    public static final String MENU_PRODUCT = "kitchenpos.menu-product";
+    public static final String MENU_MENU_PRODUCTS = "kitchenpos.menu.menu-products";
+
+    public static final List<String> ALL = Collections.unmodifiableList(Arrays.asList(
+            PRODUCT, MENU_GROUP, MENU, MENU_PRODUCT, MENU_MENU_PRODUCTS
+    ));
+
+    private CacheRegions() {
+    }
+}
@@ -0,0 +1,69 @@
+package kitchenpos.cache;
+
+import java.net.URI;
+import java.util.OptionalLong;
+import java.util.UUID;
+import javax.cache.Cache;
+import javax.cache.CacheManager;
+import javax.cache.Caching;
+
+import com.github.benmanes.caffeine.jcache.configuration.CaffeineConfiguration;
+import com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider;
+
+import org.hibernate.cache.jcache.ConfigSettings;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.cache.JCacheMetrics;
+
+@Configuration
+@EnableConfigurationProperties(ReferenceDataCacheProperties.class)
+public class ReferenceDataCacheConfig {
+
+    // 애플리케이션 컨텍스트마다 따로 쓰도록 캐시 매니저를 고유한 URI 로 만든다.
+    @Bean
+    public CacheManager referenceDataCacheManager(ReferenceDataCacheProperties properties, MeterRegistry meterRegistry) {
+        validate(properties);
+
+        CacheManager cacheManager = Caching.getCachingProvider(CaffeineCachingProvider.class.getName())
+                                           .getCacheManager(URI.create("kitchenpos-" + UUID.randomUUID()), getClass().getClassLoader());
+        for (String region : CacheRegions.ALL) {
+            Cache<Object, Object> cache = cacheManager.createCache(region, configuration(properties));
+            JCacheMetrics.monitor(meterRegistry, cache, Tags.empty());
+        }
+        return cacheManager;
+    }
+
+    @Bean
+    public HibernatePropertiesCustomizer referenceDataCacheCustomizer(CacheManager referenceDataCacheManager) {
+        return hibernateProperties -> {
+            hibernateProperties.put(AvailableSettings.USE_SECOND_LEVEL_CACHE, true);
+            hibernateProperties.put(AvailableSettings.CACHE_REGION_FACTORY, "jcache");
+            hibernateProperties.put(ConfigSettings.CACHE_MANAGER, referenceDataCacheManager);
+            hibernateProperties.put(ConfigSettings.MISSING_CACHE_STRATEGY, "fail");
+        };
+    }
+
+    private CaffeineConfiguration<Object, Object> configuration(ReferenceDataCacheProperties properties) {
+        CaffeineConfiguration<Object, Object> configuration = new CaffeineConfiguration<>();
+        configuration.setMaximumSize(OptionalLong.of(properties.getMaximumSize()));
+        // 다른 노드의 변경이나 캐시를 거치지 않은 변경도 이 시간이 지나면 데이터베이스에서 다시 읽는다.
+        configuration.setExpireAfterWrite(OptionalLong.of(properties.getExpireAfterWrite().toNanos()));
+        configuration.setStatisticsEnabled(true);
+        return configuration;
+    }
+
+    private void validate(ReferenceDataCacheProperties properties) {
+        if (properties.getMaximumSize() < 1) {
+            throw new IllegalArgumentException("캐시 최대 크기는 1 이상이어야 합니다.");
+        }
+        if (properties.getExpireAfterWrite().isNegative() || properties.getExpireAfterWrite().isZero()) {
+            throw new IllegalArgumentException("캐시 만료 시간은 0보다 길어야 합니다.");
+        }
+    }
+}
@@ -0,0 +1,48 @@
+package kitchenpos.cache;
+
+import javax.persistence.EntityManagerFactory;
+
+import org.hibernate.Cache;
+import org.hibernate.SessionFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import kitchenpos.datasource.DataSourceRouting;
+import kitchenpos.menu.domain.Menu;
+import kitchenpos.menu.domain.MenuCatalogChangedEvent;
+import kitchenpos.product.domain.Product;
+import kitchenpos.product.domain.ProductChangedEvent;
+
+// 하이버네이트를 거쳐 바뀐 엔티티는 캐시에도 반영되지만, 쓰기 경로마다 커밋 뒤 해당 항목을 비워
+// 벌크 쿼리처럼 캐시를 거치지 않은 변경이 남아 있지 않게 한다.
+// 비운 항목은 바로 주 데이터베이스에서 다시 읽어 채운다. 아직 복제되지 않은 복제본에서 읽으면 변경 전 값이 만료될 때까지 캐시에 남는다.
+@Component
+public class ReferenceDataCacheEvictor {
+    private static final String MENU_PRODUCTS_ROLE = Menu.class.getName() + ".menuProducts";
+
+    private final EntityManagerFactory entityManagerFactory;
+    private final ReferenceDataCacheLoader cacheLoader;
+
+    public ReferenceDataCacheEvictor(EntityManagerFactory entityManagerFactory, ReferenceDataCacheLoader cacheLoader) {
+        this.entityManagerFactory = entityManagerFactory;
+        this.cacheLoader = cacheLoader;
+    }
+
+    @TransactionalEventListener
+    public void evictMenu(MenuCatalogChangedEvent event) {
+        Cache cache = cache();
+        cache.evictEntityData(Menu.class, event.getMenuId());
+        cache.evictCollectionData(MENU_PRODUCTS_ROLE, event.getMenuId());
+        DataSourceRouting.onPrimary(() -> cacheLoader.loadMenu(event.getMenuId()));
+    }
+
+    @TransactionalEventListener
+    public void evictProduct(ProductChangedEvent event) {
+        cache().evictEntityData(Product.class, event.getProductId());
+        DataSourceRouting.onPrimary(() -> cacheLoader.loadProduct(event.getProductId()));
+    }
+
+    private Cache cache() {
+        return entityManagerFactory.unwrap(SessionFactory.class).getCache();
+    }
+}
@@ -0,0 +1,44 @@
+package kitchenpos.cache;
+
+import java.util.Objects;
+import javax.persistence.EntityManager;
+
+import org.hibernate.Cache;
+import org.hibernate.Hibernate;
+import org.hibernate.SessionFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import kitchenpos.menu.domain.Menu;
+import kitchenpos.menu.domain.MenuProduct;
+import kitchenpos.product.domain.Product;
+
+// 커밋이 끝난 뒤에 불리므로 새 트랜잭션에서 읽어 캐시를 채운다.
+@Component
+public class ReferenceDataCacheLoader {
+    private final EntityManager entityManager;
+
+    public ReferenceDataCacheLoader(EntityManager entityManager) {
+        this.entityManager = entityManager;
+    }
+
+    // 메뉴 상품은 메뉴와 다른 영역에 캐시되므로, 컬렉션을 다시 채우기 전에 이 메뉴의 메뉴 상품도 지운다.
+    @Transactional(propagation = Propagation.REQUIRES_NEW, readOnly = true)
+    public void loadMenu(Long menuId) {
+        final Cache cache = entityManager.getEntityManagerFactory().unwrap(SessionFactory.class).getCache();
+        entityManager.createQuery("select mp.seq from MenuProduct mp where mp.menu.id = :menuId", Long.class)
+                     .setParameter("menuId", menuId)
+                     .getResultList()
+                     .forEach(seq -> cache.evictEntityData(MenuProduct.class, seq));
+        final Menu menu = entityManager.find(Menu.class, menuId);
+        if (Objects.nonNull(menu)) {
+            Hibernate.initialize(menu.getMenuProducts());
+        }
+    }
+
+    @Transactional(propagation = Propagation.REQUIRES_NEW, readOnly = true)
+    public void loadProduct(Long productId) {
+        entityManager.find(Product.class, productId);
+    }
+}
@@ -0,0 +1,35 @@
+package kitchenpos.datasource;
+
+// 요청 하나 동안 호출자가 마지막으로 쓰기를 커밋한 시각(에폭 밀리초)을 담는다. 요청을 처리하는 스레드가 아니라 호출자에게 묶인 값이다.
+final class CallerWrites {
+    private static final long NONE = 0;
+
+    private long lastWriteAt;
+    private boolean written;
+
+    CallerWrites() {
+        this(NONE);
+    }
+
+    CallerWrites(long lastWriteAt) {
+        this.lastWriteAt = lastWriteAt;
+    }
+
+    void markWritten(long now) {
+        lastWriteAt = now;
+        written = true;
+    }
+
+    // 노드 사이 시계 차이로 시각이 조금 앞설 수 있으므로 앞뒤로 같은 폭을 허용한다.
+    boolean wroteWithin(long millis, long now) {
+        return lastWriteAt != NONE && Math.abs(now - lastWriteAt) < millis;
+    }
+
+    boolean isWritten() {
+        return written;
+    }
+
+    long getLastWriteAt() {
+        return lastWriteAt;
+    }
+}
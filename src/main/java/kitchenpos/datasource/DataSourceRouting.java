@@ -0,0 +1,59 @@
+package kitchenpos.datasource;
+
+import java.util.function.Supplier;
+
+// 처리 중인 요청의 호출자가 마지막으로 쓰기를 커밋한 시각과, 읽기 전용이어도 주 데이터베이스를 써야 하는 구간을 기억한다.
+public final class DataSourceRouting {
+    private static final ThreadLocal<CallerWrites> CALLER_WRITES = new ThreadLocal<>();
+    private static final ThreadLocal<Boolean> PRIMARY_ONLY = new ThreadLocal<>();
+
+    private DataSourceRouting() {
+    }
+
+    // 다른 스레드에서 방금 커밋한 쓰기를 읽어야 할 때처럼, 복제본의 지연을 허용할 수 없는 읽기에 쓴다.
+    public static <T> T onPrimary(Supplier<T> task) {
+        Boolean previous = PRIMARY_ONLY.get();
+        PRIMARY_ONLY.set(Boolean.TRUE);
+        try {
+            return task.get();
+        } finally {
+            if (previous == null) {
+                PRIMARY_ONLY.remove();
+            } else {
+                PRIMARY_ONLY.set(previous);
+            }
+        }
+    }
+
+    public static void onPrimary(Runnable task) {
+        onPrimary(() -> {
+            task.run();
+            return null;
+        });
+    }
+
+    static boolean isPrimaryOnly() {
+        return PRIMARY_ONLY.get() != null;
+    }
+
+    static void bind(CallerWrites callerWrites) {
+        CALLER_WRITES.set(callerWrites);
+    }
+
+    static void unbind() {
+        CALLER_WRITES.remove();
+    }
+
+    // 요청 밖(스케줄러, 이벤트 스레드)의 쓰기는 이어지는 읽기의 호출자를 알 수 없으므로 기억하지 않는다.
+    static void markWritten() {
+        CallerWrites callerWrites = CALLER_WRITES.get();
+        if (callerWrites != null) {
+            callerWrites.markWritten(System.currentTimeMillis());
+        }
+    }
+
+    static boolean wroteWithin(long millis) {
+        CallerWrites callerWrites = CALLER_WRITES.get();
+        return callerWrites != null && callerWrites.wroteWithin(millis, System.currentTimeMillis());
+    }
+}
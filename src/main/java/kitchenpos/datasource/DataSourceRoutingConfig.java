@@ -0,0 +1,109 @@
+package kitchenpos.datasource;
+
+import javax.sql.DataSource;
+
+import com.zaxxer.hikari.HikariDataSource;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.util.StringUtils;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+// 복제본 주소를 따로 주지 않으면 주 데이터베이스에 읽기 전용 커넥션 풀을 하나 더 만든다. 로컬과 테스트의 H2 에서는 이 풀이 항상 동기화된 복제본 역할을 한다.
+@Configuration
+@EnableConfigurationProperties({DataSourceProperties.class, ReplicaDataSourceProperties.class})
+public class DataSourceRoutingConfig {
+    public static final String PRIMARY_DATA_SOURCE = "primaryDataSource";
+    public static final String REPLICA_DATA_SOURCE = "replicaDataSource";
+
+    @Bean(PRIMARY_DATA_SOURCE)
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties properties) {
+        HikariDataSource dataSource = properties.initializeDataSourceBuilder()
+                                                .type(HikariDataSource.class)
+                                                .build();
+        dataSource.setPoolName("primary");
+        return dataSource;
+    }
+
+    @Bean(REPLICA_DATA_SOURCE)
+    public HikariDataSource replicaDataSource(DataSourceProperties primary, ReplicaDataSourceProperties replica) {
+        validate(replica);
+
+        HikariDataSource dataSource = new HikariDataSource();
+        dataSource.setPoolName("replica");
+        dataSource.setDriverClassName(primary.determineDriverClassName());
+        if (StringUtils.hasText(replica.getUrl())) {
+            dataSource.setJdbcUrl(replica.getUrl());
+            dataSource.setUsername(replica.getUsername());
+            dataSource.setPassword(replica.getPassword());
+        } else {
+            dataSource.setJdbcUrl(primary.determineUrl());
+            dataSource.setUsername(primary.determineUsername());
+            dataSource.setPassword(primary.determinePassword());
+        }
+        dataSource.setMaximumPoolSize(replica.getMaximumPoolSize());
+        dataSource.setReadOnly(true);
+        return dataSource;
+    }
+
+    @Bean
+    public ReplicaLag replicaLag(ReplicaDataSourceProperties properties, MeterRegistry meterRegistry) {
+        // 별도 복제본은 지연 확인 쿼리가 처음 실행되기 전까지 지연을 알 수 없으므로 주 데이터베이스에서 읽는다.
+        long initialLagMillis = StringUtils.hasText(properties.getUrl()) ? ReplicaLag.UNKNOWN : 0;
+        ReplicaLag replicaLag = new ReplicaLag(properties.getMaxLagMillis(), initialLagMillis);
+        Gauge.builder("kitchenpos.datasource.replica.lag", replicaLag, ReplicaLag::getLagMillis)
+             .description("마지막으로 확인한 복제본 지연 시간(밀리초), 알 수 없으면 -1")
+             .register(meterRegistry);
+        return replicaLag;
+    }
+
+    @Bean
+    @ConditionalOnProperty("kitchenpos.datasource.replica.lag-query")
+    public ReplicaLagMonitor replicaLagMonitor(
+            @Qualifier(REPLICA_DATA_SOURCE) DataSource replicaDataSource,
+            ReplicaDataSourceProperties properties,
+            ReplicaLag replicaLag
+    ) {
+        return new ReplicaLagMonitor(replicaDataSource, properties.getLagQuery(), properties.getLagCheckIntervalMillis(), replicaLag);
+    }
+
+    @Bean
+    public ReadYourWritesFilter readYourWritesFilter(ReplicaLag replicaLag) {
+        return new ReadYourWritesFilter(replicaLag);
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(
+            @Qualifier(PRIMARY_DATA_SOURCE) DataSource primaryDataSource,
+            @Qualifier(REPLICA_DATA_SOURCE) DataSource replicaDataSource,
+            ReplicaLag replicaLag,
+            MeterRegistry meterRegistry
+    ) {
+        ReadWriteRoutingDataSource routingDataSource = new ReadWriteRoutingDataSource(primaryDataSource, replicaDataSource, replicaLag, meterRegistry);
+        routingDataSource.afterPropertiesSet();
+        return new LazyConnectionDataSourceProxy(routingDataSource);
+    }
+
+    private void validate(ReplicaDataSourceProperties properties) {
+        if (properties.getMaxLagMillis() < 0) {
+            throw new IllegalArgumentException("허용하는 복제본 지연 시간은 0 이상이어야 합니다.");
+        }
+        if (properties.getLagCheckIntervalMillis() < 1) {
+            throw new IllegalArgumentException("복제본 지연 확인 주기는 1 이상이어야 합니다.");
+        }
+        if (StringUtils.hasText(properties.getUrl()) && !StringUtils.hasText(properties.getLagQuery())) {
+            throw new IllegalArgumentException("복제본 주소를 주면 복제본 지연 확인 쿼리도 주어야 합니다.");
+        }
+    }
+}
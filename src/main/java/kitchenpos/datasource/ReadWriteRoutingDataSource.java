@@ -0,0 +1,71 @@
+package kitchenpos.datasource;
+
+import java.util.HashMap;
+import java.util.Map;
+import javax.sql.DataSource;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+
+// 커넥션을 실제로 얻는 시점에 트랜잭션 속성을 보고 고른다. 트랜잭션 시작 전에 커넥션을 얻지 않도록 LazyConnectionDataSourceProxy 로 감싸서 쓴다.
+public class ReadWriteRoutingDataSource extends AbstractRoutingDataSource {
+    private static final String PRIMARY = "primary";
+    private static final String REPLICA = "replica";
+
+    private final ReplicaLag replicaLag;
+    private final Counter primaryRoutes;
+    private final Counter replicaRoutes;
+
+    public ReadWriteRoutingDataSource(DataSource primary, DataSource replica, ReplicaLag replicaLag, MeterRegistry meterRegistry) {
+        Map<Object, Object> targets = new HashMap<>();
+        targets.put(PRIMARY, primary);
+        targets.put(REPLICA, replica);
+        setTargetDataSources(targets);
+        setDefaultTargetDataSource(primary);
+        this.replicaLag = replicaLag;
+        this.primaryRoutes = routes(meterRegistry, PRIMARY);
+        this.replicaRoutes = routes(meterRegistry, REPLICA);
+    }
+
+    private static Counter routes(MeterRegistry meterRegistry, String target) {
+        return Counter.builder("kitchenpos.datasource.routes")
+                      .description("데이터베이스별로 내준 커넥션 수")
+                      .tag("target", target)
+                      .register(meterRegistry);
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            rememberWrite();
+            primaryRoutes.increment();
+            return PRIMARY;
+        }
+        if (DataSourceRouting.isPrimaryOnly()
+                || DataSourceRouting.wroteWithin(replicaLag.getMaxLagMillis())
+                || !replicaLag.isAcceptable()) {
+            primaryRoutes.increment();
+            return PRIMARY;
+        }
+        replicaRoutes.increment();
+        return REPLICA;
+    }
+
+    // 쓰기가 커밋된 뒤 허용 지연 시간 동안은 같은 호출자의 읽기도 주 데이터베이스에서 읽어, 방금 쓴 내용을 볼 수 있게 한다.
+    private void rememberWrite() {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            DataSourceRouting.markWritten();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                DataSourceRouting.markWritten();
+            }
+        });
+    }
+}
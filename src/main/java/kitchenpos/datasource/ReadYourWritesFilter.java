@@ -0,0 +1,117 @@
+package kitchenpos.datasource;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.util.concurrent.TimeUnit;
+import javax.servlet.FilterChain;
+import javax.servlet.ServletException;
+import javax.servlet.ServletOutputStream;
+import javax.servlet.http.Cookie;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import javax.servlet.http.HttpServletResponseWrapper;
+
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.WebUtils;
+
+// 호출자가 마지막으로 쓰기를 커밋한 시각을 쿠키로 주고받는다. 다음 요청이 다른 스레드나 다른 노드에서 처리되어도 방금 쓴 내용을 주 데이터베이스에서 읽는다.
+public class ReadYourWritesFilter extends OncePerRequestFilter {
+    public static final String LAST_WRITE_COOKIE = "KITCHENPOS_LAST_WRITE";
+
+    private final ReplicaLag replicaLag;
+
+    public ReadYourWritesFilter(ReplicaLag replicaLag) {
+        this.replicaLag = replicaLag;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        CallerWrites callerWrites = new CallerWrites(lastWriteAt(request));
+        DataSourceRouting.bind(callerWrites);
+        try {
+            LastWriteCookieResponse cookieResponse = new LastWriteCookieResponse(response, callerWrites, maxAgeSeconds());
+            filterChain.doFilter(request, cookieResponse);
+            cookieResponse.writeCookie();
+        } finally {
+            DataSourceRouting.unbind();
+        }
+    }
+
+    private long lastWriteAt(HttpServletRequest request) {
+        Cookie cookie = WebUtils.getCookie(request, LAST_WRITE_COOKIE);
+        if (cookie == null) {
+            return 0;
+        }
+        try {
+            return Long.parseLong(cookie.getValue());
+        } catch (NumberFormatException e) {
+            return 0;
+        }
+    }
+
+    private int maxAgeSeconds() {
+        return (int) TimeUnit.MILLISECONDS.toSeconds(replicaLag.getMaxLagMillis() + 999);
+    }
+
+    // 쿠키는 응답이 커밋되기 전에만 쓸 수 있으므로, 본문을 쓰기 시작하는 시점까지 커밋한 마지막 쓰기 시각을 내보낸다.
+    private static class LastWriteCookieResponse extends HttpServletResponseWrapper {
+        private final CallerWrites callerWrites;
+        private final int maxAgeSeconds;
+        private boolean written;
+
+        LastWriteCookieResponse(HttpServletResponse response, CallerWrites callerWrites, int maxAgeSeconds) {
+            super(response);
+            this.callerWrites = callerWrites;
+            this.maxAgeSeconds = maxAgeSeconds;
+        }
+
+        void writeCookie() {
+            if (written || isCommitted() || !callerWrites.isWritten() || maxAgeSeconds == 0) {
+                return;
+            }
+            written = true;
+            Cookie cookie = new Cookie(LAST_WRITE_COOKIE, String.valueOf(callerWrites.getLastWriteAt()));
+            cookie.setPath("/");
+            cookie.setHttpOnly(true);
+            cookie.setMaxAge(maxAgeSeconds);
+            addCookie(cookie);
+        }
+
+        @Override
+        public ServletOutputStream getOutputStream() throws IOException {
+            writeCookie();
+            return super.getOutputStream();
+        }
+
+        @Override
+        public PrintWriter getWriter() throws IOException {
+            writeCookie();
+            return super.getWriter();
+        }
+
+        @Override
+        public void flushBuffer() throws IOException {
+            writeCookie();
+            super.flushBuffer();
+        }
+
+        @Override
+        public void sendError(int sc) throws IOException {
+            writeCookie();
+            super.sendError(sc);
+        }
+
+        @Override
+        public void sendError(int sc, String msg) throws IOException {
+            writeCookie();
+            super.sendError(sc, msg);
+        }
+
+        @Override
+        public void sendRedirect(String location) throws IOException {
+            writeCookie();
+            super.sendRedirect(location);
+        }
+    }
+}
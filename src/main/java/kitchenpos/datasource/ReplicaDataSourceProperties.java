@@ -0,0 +1,70 @@
+package kitchenpos.datasource;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@ConfigurationProperties("kitchenpos.datasource.replica")
+public class ReplicaDataSourceProperties {
+    private String url;
+    private String username;
+    private String password;
+    private int maximumPoolSize = 10;
+    private long maxLagMillis = 1000;
+    private String lagQuery;
+    private long lagCheckIntervalMillis = 1000;
+
+    public String getUrl() {
+        return url;
+    }
+
+    public void setUrl(String url) {
+        this.url = url;
+    }
+
+    public String getUsername() {
+        return username;
+    }
+
+    public void setUsername(String username) {
+        this.username = username;
+    }
+
+    public String getPassword() {
+        return password;
+    }
+
+    public void setPassword(String password) {
+        this.password = password;
+    }
+
+    public int getMaximumPoolSize() {
+        return maximumPoolSize;
+    }
+
+    public void setMaximumPoolSize(int maximumPoolSize) {
+        this.maximumPoolSize = maximumPoolSize;
+    }
+
+    public long getMaxLagMillis() {
+        return maxLagMillis;
+    }
+
+    public void setMaxLagMillis(long maxLagMillis) {
+        this.maxLagMillis = maxLagMillis;
+    }
+
+    public String getLagQuery() {
+        return lagQuery;
+    }
+
+    public void setLagQuery(String lagQuery) {
+        this.lagQuery = lagQuery;
+    }
+
+    public long getLagCheckIntervalMillis() {
+        return lagCheckIntervalMillis;
+    }
+
+    public void setLagCheckIntervalMillis(long lagCheckIntervalMillis) {
+        this.lagCheckIntervalMillis = lagCheckIntervalMillis;
+    }
+}
@@ -0,0 +1,30 @@
+package kitchenpos.datasource;
+
+public class ReplicaLag {
+    public static final long UNKNOWN = -1;
+
+    private final long maxLagMillis;
+    private volatile long lagMillis;
+
+    public ReplicaLag(long maxLagMillis, long lagMillis) {
+        this.maxLagMillis = maxLagMillis;
+        this.lagMillis = lagMillis;
+    }
+
+    public void update(long lagMillis) {
+        this.lagMillis = lagMillis;
+    }
+
+    public boolean isAcceptable() {
+        long current = lagMillis;
+        return current != UNKNOWN && current <= maxLagMillis;
+    }
+
+    public long getLagMillis() {
+        return lagMillis;
+    }
+
+    public long getMaxLagMillis() {
+        return maxLagMillis;
+    }
+}
@@ -0,0 +1,48 @@
+package kitchenpos.datasource;
+
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import javax.sql.DataSource;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+// 복제본에서 지연 시간(밀리초)을 돌려주는 쿼리를 주기적으로 실행한다. 쿼리가 실패하면 지연을 알 수 없으므로 주 데이터베이스에서 읽는다.
+public class ReplicaLagMonitor implements DisposableBean {
+    private static final Logger log = LoggerFactory.getLogger(ReplicaLagMonitor.class);
+
+    private final JdbcTemplate replica;
+    private final String lagQuery;
+    private final ReplicaLag replicaLag;
+    private final ScheduledExecutorService scheduler;
+
+    public ReplicaLagMonitor(DataSource replica, String lagQuery, long intervalMillis, ReplicaLag replicaLag) {
+        this.replica = new JdbcTemplate(replica);
+        this.lagQuery = lagQuery;
+        this.replicaLag = replicaLag;
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(task -> {
+            Thread thread = new Thread(task, "replica-lag-monitor");
+            thread.setDaemon(true);
+            return thread;
+        });
+        scheduler.scheduleWithFixedDelay(this::check, 0, intervalMillis, TimeUnit.MILLISECONDS);
+    }
+
+    void check() {
+        try {
+            Long lagMillis = replica.queryForObject(lagQuery, Long.class);
+            replicaLag.update(lagMillis == null ? ReplicaLag.UNKNOWN : lagMillis);
+        } catch (RuntimeException e) {
+            log.warn("복제본 지연 시간을 확인하지 못했습니다.", e);
+            replicaLag.update(ReplicaLag.UNKNOWN);
+        }
+    }
+
+    @Override
+    public void destroy() {
+        scheduler.shutdownNow();
+    }
+}
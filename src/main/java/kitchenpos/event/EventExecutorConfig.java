@@ -0,0 +1,94 @@
+package kitchenpos.event;
+
+import java.util.concurrent.RejectedExecutionHandler;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.TaskDecorator;
+import org.springframework.scheduling.annotation.EnableAsync;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+@EnableAsync
+@Configuration
+@EnableConfigurationProperties(EventExecutorProperties.class)
+public class EventExecutorConfig {
+    public static final String EVENT_TASK_EXECUTOR = "eventTaskExecutor";
+
+    private static final String METRIC_PREFIX = "kitchenpos.event.executor";
+
+    @Bean(EVENT_TASK_EXECUTOR)
+    public ThreadPoolTaskExecutor eventTaskExecutor(EventExecutorProperties properties, MeterRegistry meterRegistry) {
+        validate(properties);
+
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setThreadNamePrefix("event-");
+        executor.setCorePoolSize(properties.getCorePoolSize());
+        executor.setMaxPoolSize(properties.getMaxPoolSize());
+        executor.setQueueCapacity(properties.getQueueCapacity());
+        executor.setRejectedExecutionHandler(countingRejections(properties.getRejectionPolicy(), meterRegistry));
+        executor.setTaskDecorator(timingTasks(meterRegistry));
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(properties.getAwaitTerminationSeconds());
+
+        Gauge.builder(METRIC_PREFIX + ".queued", executor, EventExecutorConfig::queueSize)
+             .description("실행을 기다리는 이벤트 처리 작업 수")
+             .register(meterRegistry);
+        Gauge.builder(METRIC_PREFIX + ".active", executor, ThreadPoolTaskExecutor::getActiveCount)
+             .description("실행 중인 이벤트 처리 작업 수")
+             .register(meterRegistry);
+        return executor;
+    }
+
+    private void validate(EventExecutorProperties properties) {
+        if (properties.getCorePoolSize() < 1 || properties.getMaxPoolSize() < properties.getCorePoolSize()) {
+            throw new IllegalArgumentException("이벤트 처리 스레드 수는 1 이상이고, 최대 스레드 수는 기본 스레드 수 이상이어야 합니다.");
+        }
+        if (properties.getQueueCapacity() < 0) {
+            throw new IllegalArgumentException("이벤트 처리 대기열 크기는 0 이상이어야 합니다.");
+        }
+    }
+
+    private static int queueSize(ThreadPoolTaskExecutor executor) {
+        try {
+            return executor.getThreadPoolExecutor().getQueue().size();
+        } catch (IllegalStateException e) {
+            return 0;
+        }
+    }
+
+    private RejectedExecutionHandler countingRejections(RejectionPolicy policy, MeterRegistry meterRegistry) {
+        Counter rejected = Counter.builder(METRIC_PREFIX + ".rejected")
+                                  .description("대기열이 가득 차 거절된 이벤트 처리 작업 수")
+                                  .tag("policy", policy.name())
+                                  .register(meterRegistry);
+        RejectedExecutionHandler delegate = policy.getHandler();
+        return (Runnable task, ThreadPoolExecutor executor) -> {
+            rejected.increment();
+            delegate.rejectedExecution(task, executor);
+        };
+    }
+
+    private TaskDecorator timingTasks(MeterRegistry meterRegistry) {
+        Timer waiting = Timer.builder(METRIC_PREFIX + ".wait")
+                             .description("이벤트 처리 작업이 대기열에서 기다린 시간")
+                             .register(meterRegistry);
+        Timer execution = Timer.builder(METRIC_PREFIX + ".execution")
+                               .description("이벤트 처리 작업의 실행 시간")
+                               .register(meterRegistry);
+        return task -> {
+            long submittedAt = System.nanoTime();
+            return () -> {
+                waiting.record(System.nanoTime() - submittedAt, TimeUnit.NANOSECONDS);
+                execution.record(task);
+            };
+        };
+    }
+}
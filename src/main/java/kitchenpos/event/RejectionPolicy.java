@@ -0,0 +1,21 @@
+package kitchenpos.event;
+
+import java.util.concurrent.RejectedExecutionHandler;
+import java.util.concurrent.ThreadPoolExecutor;
+
+public enum RejectionPolicy {
+    CALLER_RUNS(new ThreadPoolExecutor.CallerRunsPolicy()),
+    ABORT(new ThreadPoolExecutor.AbortPolicy()),
+    DISCARD(new ThreadPoolExecutor.DiscardPolicy()),
+    DISCARD_OLDEST(new ThreadPoolExecutor.DiscardOldestPolicy());
+
+    private final RejectedExecutionHandler handler;
+
+    RejectionPolicy(RejectedExecutionHandler handler) {
+        this.handler = handler;
+    }
+
+    public RejectedExecutionHandler getHandler() {
+        return handler;
+    }
+}
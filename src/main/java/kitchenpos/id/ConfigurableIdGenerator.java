@@ -0,0 +1,74 @@
+package kitchenpos.id;
+
+import java.io.Serializable;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Properties;
+
+import org.hibernate.HibernateException;
+import org.hibernate.boot.model.relational.Database;
+import org.hibernate.boot.model.relational.ExportableProducer;
+import org.hibernate.engine.config.spi.ConfigurationService;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.id.Configurable;
+import org.hibernate.id.IdentifierGenerator;
+import org.hibernate.id.PersistentIdentifierGenerator;
+import org.hibernate.id.enhanced.SequenceStyleGenerator;
+import org.hibernate.internal.util.config.ConfigurationHelper;
+import org.hibernate.service.ServiceRegistry;
+import org.hibernate.type.Type;
+
+public class ConfigurableIdGenerator implements IdentifierGenerator, Configurable, ExportableProducer {
+    public static final String NAME = "kitchenpos_id";
+    public static final String STRATEGY = "kitchenpos.id.strategy";
+    public static final String NODE_ID = "kitchenpos.id.node-id";
+
+    private static final String SEQUENCE_SUFFIX = "_seq";
+    private static final int DEFAULT_INCREMENT_SIZE = 50;
+
+    private SequenceStyleGenerator sequenceGenerator;
+    private SnowflakeIdGenerator snowflakeGenerator;
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public void configure(Type type, Properties params, ServiceRegistry serviceRegistry) {
+        // Hibernate 5.4 의 ConfigurationService 는 타입 인자 없는 Map 을 돌려준다.
+        final Map<String, Object> settings = serviceRegistry.getService(ConfigurationService.class).getSettings();
+        final IdGenerationStrategy strategy = IdGenerationStrategy.from(
+                ConfigurationHelper.getString(STRATEGY, settings, IdGenerationStrategy.SEQUENCE.name())
+        );
+        if (strategy == IdGenerationStrategy.SNOWFLAKE) {
+            snowflakeGenerator = new SnowflakeIdGenerator(ConfigurationHelper.getInt(NODE_ID, settings, 0));
+            return;
+        }
+        sequenceGenerator = new SequenceStyleGenerator();
+        sequenceGenerator.configure(type, sequenceParams(params), serviceRegistry);
+    }
+
+    private Properties sequenceParams(Properties params) {
+        final Properties sequenceParams = new Properties();
+        sequenceParams.putAll(params);
+        sequenceParams.putIfAbsent(
+                SequenceStyleGenerator.SEQUENCE_PARAM,
+                params.getProperty(PersistentIdentifierGenerator.TABLE) + SEQUENCE_SUFFIX
+        );
+        sequenceParams.putIfAbsent(SequenceStyleGenerator.INCREMENT_PARAM, String.valueOf(DEFAULT_INCREMENT_SIZE));
+        sequenceParams.putIfAbsent(SequenceStyleGenerator.OPT_PARAM, "pooled-lo");
+        return sequenceParams;
+    }
+
+    @Override
+    public void registerExportables(Database database) {
+        if (Objects.nonNull(sequenceGenerator)) {
+            sequenceGenerator.registerExportables(database);
+        }
+    }
+
+    @Override
+    public Serializable generate(SharedSessionContractImplementor session, Object object) throws HibernateException {
+        if (Objects.nonNull(snowflakeGenerator)) {
+            return snowflakeGenerator.nextId();
+        }
+        return sequenceGenerator.generate(session, object);
+    }
+}
@@ -0,0 +1,14 @@
+package kitchenpos.id;
+
+import java.util.Arrays;
+
+public enum IdGenerationStrategy {
+    SEQUENCE, SNOWFLAKE;
+
+    public static IdGenerationStrategy from(String name) {
+        return Arrays.stream(values())
+                     .filter(strategy -> strategy.name().equalsIgnoreCase(name))
+                     .findFirst()
+                     .orElseThrow(() -> new IllegalArgumentException("지원하지 않는 id 생성 전략입니다. " + name));
+    }
+}
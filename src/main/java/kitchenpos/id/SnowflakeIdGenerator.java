@@ -0,0 +1,56 @@
+package kitchenpos.id;
+
+import java.time.Clock;
+import java.time.Instant;
+
+public class SnowflakeIdGenerator {
+    static final long EPOCH = Instant.parse("2021-01-01T00:00:00Z").toEpochMilli();
+    static final int NODE_ID_BITS = 10;
+    static final int SEQUENCE_BITS = 12;
+    static final long MAX_NODE_ID = (1L << NODE_ID_BITS) - 1;
+    static final long MAX_SEQUENCE = (1L << SEQUENCE_BITS) - 1;
+
+    private final long nodeId;
+    private final Clock clock;
+    private long lastTimestamp = -1L;
+    private long sequence = 0L;
+
+    public SnowflakeIdGenerator(long nodeId) {
+        this(nodeId, Clock.systemUTC());
+    }
+
+    public SnowflakeIdGenerator(long nodeId, Clock clock) {
+        if (nodeId < 0 || nodeId > MAX_NODE_ID) {
+            throw new IllegalArgumentException("노드 id는 0 이상 " + MAX_NODE_ID + " 이하여야 합니다.");
+        }
+        this.nodeId = nodeId;
+        this.clock = clock;
+    }
+
+    public synchronized long nextId() {
+        long timestamp = clock.millis();
+        if (timestamp < lastTimestamp) {
+            throw new IllegalStateException("시스템 시간이 뒤로 이동하여 id를 생성할 수 없습니다.");
+        }
+        if (timestamp == lastTimestamp) {
+            sequence = (sequence + 1) & MAX_SEQUENCE;
+            if (sequence == 0) {
+                timestamp = waitNextMillis(timestamp);
+            }
+        } else {
+            sequence = 0L;
+        }
+        lastTimestamp = timestamp;
+        return ((timestamp - EPOCH) << (NODE_ID_BITS + SEQUENCE_BITS))
+                | (nodeId << SEQUENCE_BITS)
+                | sequence;
+    }
+
+    private long waitNextMillis(long timestamp) {
+        long next = clock.millis();
+        while (next <= timestamp) {
+            next = clock.millis();
+        }
+        return next;
+    }
+}
@@ -0,0 +1,4 @@
+@GenericGenerator(name = ConfigurableIdGenerator.NAME, strategy = "kitchenpos.id.ConfigurableIdGenerator")
+package kitchenpos.id;
+
+import org.hibernate.annotations.GenericGenerator;
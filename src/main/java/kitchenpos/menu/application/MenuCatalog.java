@@ -0,0 +1,95 @@
+package kitchenpos.menu.application;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.Collectors;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+import kitchenpos.menu.domain.MenuRepository;
+import kitchenpos.menu.domain.MenuVersionRepository;
+import kitchenpos.menu.ui.response.MenuResponse;
+
+@Component
+public class MenuCatalog {
+    private static final String METRIC_PREFIX = "kitchenpos.menu.catalog";
+
+    private final MenuRepository menuRepository;
+    private final MenuVersionRepository menuVersionRepository;
+    private final ObjectMapper objectMapper;
+    private final Timer rebuildTimer;
+    private final AtomicReference<MenuCatalogSnapshot> snapshot = new AtomicReference<>(MenuCatalogSnapshot.empty());
+    private final AtomicBoolean stale = new AtomicBoolean();
+
+    public MenuCatalog(
+            MenuRepository menuRepository,
+            MenuVersionRepository menuVersionRepository,
+            ObjectMapper objectMapper,
+            MeterRegistry meterRegistry
+    ) {
+        this.menuRepository = menuRepository;
+        this.menuVersionRepository = menuVersionRepository;
+        this.objectMapper = objectMapper;
+        this.rebuildTimer = Timer.builder(METRIC_PREFIX + ".rebuild")
+                                 .description("메뉴 목록 스냅샷을 다시 만드는 데 걸린 시간")
+                                 .register(meterRegistry);
+        Gauge.builder(METRIC_PREFIX + ".size", snapshot, reference -> reference.get().getMenus().size())
+             .description("메뉴 목록 스냅샷에 담긴 메뉴 수")
+             .register(meterRegistry);
+    }
+
+    public MenuCatalogSnapshot getSnapshot() {
+        return snapshot.get();
+    }
+
+    public boolean isStale() {
+        return stale.get();
+    }
+
+    public void markStale() {
+        stale.set(true);
+    }
+
+    // 조회는 트랜잭션 안에서 락을 잡은 뒤에 하므로, 마지막으로 끝난 재구성이 항상 가장 최근에 커밋된 메뉴를 담는다.
+    @Transactional(readOnly = true)
+    public synchronized void rebuild() {
+        rebuild(menuVersionRepository.findCatalogVersion());
+    }
+
+    // 앞선 요청이 이미 다시 만들었으면 또 만들지 않는다.
+    @Transactional(readOnly = true)
+    public synchronized void rebuildIfStale() {
+        if (stale.get()) {
+            rebuild(menuVersionRepository.findCatalogVersion());
+        }
+    }
+
+    // 다른 노드에서 바뀐 메뉴는 이벤트로 알 수 없으므로, 버전만 읽어 보고 달라졌을 때만 다시 만든다.
+    @Transactional(readOnly = true)
+    public synchronized void refresh() {
+        final long version = menuVersionRepository.findCatalogVersion();
+        if (version != snapshot.get().getVersion()) {
+            rebuild(version);
+        }
+    }
+
+    // 버전을 메뉴보다 먼저 읽으므로, 그 사이에 추가된 변경은 다음 확인 때 한 번 더 다시 만들 뿐 놓치지 않는다.
+    private void rebuild(long version) {
+        stale.set(false);
+        rebuildTimer.record(() -> {
+            final List<MenuResponse> menus = menuRepository.findAllWithMenuProducts()
+                                                           .stream()
+                                                           .map(MenuResponse::from)
+                                                           .collect(Collectors.toList());
+            snapshot.set(MenuCatalogSnapshot.of(version, menus, objectMapper));
+        });
+    }
+}
@@ -0,0 +1,37 @@
+package kitchenpos.menu.application;
+
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.scheduling.annotation.SchedulingConfigurer;
+import org.springframework.scheduling.config.IntervalTask;
+import org.springframework.scheduling.config.ScheduledTaskRegistrar;
+
+import kitchenpos.datasource.DataSourceRouting;
+
+@EnableScheduling
+@Configuration
+@EnableConfigurationProperties(MenuCatalogProperties.class)
+public class MenuCatalogConfig implements SchedulingConfigurer {
+    private final MenuCatalog menuCatalog;
+    private final MenuCatalogProperties properties;
+
+    public MenuCatalogConfig(MenuCatalog menuCatalog, MenuCatalogProperties properties) {
+        validate(properties);
+        this.menuCatalog = menuCatalog;
+        this.properties = properties;
+    }
+
+    // 복제본에서 확인하면 지연된 버전을 보고 낡았다는 표시를 지울 수 있으므로 주 데이터베이스에서 확인한다.
+    @Override
+    public void configureTasks(ScheduledTaskRegistrar registrar) {
+        long interval = properties.getRefreshInterval().toMillis();
+        registrar.addFixedDelayTask(new IntervalTask(() -> DataSourceRouting.onPrimary(menuCatalog::refresh), interval, interval));
+    }
+
+    private void validate(MenuCatalogProperties properties) {
+        if (properties.getRefreshInterval().isNegative() || properties.getRefreshInterval().isZero()) {
+            throw new IllegalArgumentException("메뉴 목록 변경을 확인하는 주기는 0보다 길어야 합니다.");
+        }
+    }
+}
@@ -0,0 +1,39 @@
+package kitchenpos.menu.application;
+
+import org.springframework.context.event.ContextRefreshedEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import kitchenpos.datasource.DataSourceRouting;
+import kitchenpos.event.EventExecutorConfig;
+import kitchenpos.menu.domain.MenuCatalogChangedEvent;
+
+@Component
+public class MenuCatalogEventHandler {
+    private final MenuCatalog menuCatalog;
+
+    public MenuCatalogEventHandler(MenuCatalog menuCatalog) {
+        this.menuCatalog = menuCatalog;
+    }
+
+    @EventListener(ContextRefreshedEvent.class)
+    public void initialize() {
+        menuCatalog.rebuild();
+    }
+
+    // 비동기 재구성이 끝나기 전에 이 노드로 온 조회가 변경 전 목록을 받지 않도록, 커밋한 스레드에서 먼저 낡았다고 표시한다.
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void markStale(MenuCatalogChangedEvent event) {
+        menuCatalog.markStale();
+    }
+
+    @Async(EventExecutorConfig.EVENT_TASK_EXECUTOR)
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void handle(MenuCatalogChangedEvent event) {
+        // 이벤트 스레드는 커밋한 스레드가 아니므로, 방금 커밋된 메뉴를 놓치지 않도록 주 데이터베이스에서 읽는다.
+        DataSourceRouting.onPrimary(menuCatalog::rebuild);
+    }
+}
@@ -0,0 +1,18 @@
+package kitchenpos.menu.application;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@ConfigurationProperties("kitchenpos.menu.catalog")
+public class MenuCatalogProperties {
+    private Duration refreshInterval = Duration.ofSeconds(10);
+
+    public Duration getRefreshInterval() {
+        return refreshInterval;
+    }
+
+    public void setRefreshInterval(Duration refreshInterval) {
+        this.refreshInterval = refreshInterval;
+    }
+}
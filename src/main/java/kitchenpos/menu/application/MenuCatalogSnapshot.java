@@ -0,0 +1,53 @@
+package kitchenpos.menu.application;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import kitchenpos.menu.ui.response.MenuResponse;
+
+public class MenuCatalogSnapshot {
+    private static final long EMPTY_VERSION = -1L;
+
+    private final long version;
+    private final List<MenuResponse> menus;
+    private final byte[] json;
+
+    private MenuCatalogSnapshot(long version, List<MenuResponse> menus, byte[] json) {
+        this.version = version;
+        this.menus = menus;
+        this.json = json;
+    }
+
+    public static MenuCatalogSnapshot empty() {
+        return new MenuCatalogSnapshot(EMPTY_VERSION, Collections.emptyList(), "[]".getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static MenuCatalogSnapshot of(long version, List<MenuResponse> menus, ObjectMapper objectMapper) {
+        final List<MenuResponse> copied = Collections.unmodifiableList(new ArrayList<>(menus));
+        try {
+            return new MenuCatalogSnapshot(version, copied, objectMapper.writeValueAsBytes(copied));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("메뉴 목록을 JSON으로 변환할 수 없습니다.", e);
+        }
+    }
+
+    public long getVersion() {
+        return version;
+    }
+
+    public List<MenuResponse> getMenus() {
+        return menus;
+    }
+
+    // 요청마다 전체 목록을 복사하지 않도록, 만들어 둔 JSON 을 그대로 쓴다.
+    public void writeJson(OutputStream outputStream) throws IOException {
+        outputStream.write(json);
+    }
+}
@@ -1,37 +1,59 @@
 package kitchenpos.menu.application;
 
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
 import java.util.stream.Collectors;
 
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import kitchenpos.datasource.DataSourceRouting;
 import kitchenpos.menu.domain.Menu;
+import kitchenpos.menu.domain.MenuCatalogChangedEvent;
 import kitchenpos.menu.domain.MenuProduct;
 import kitchenpos.menu.domain.MenuRepository;
 import kitchenpos.menu.domain.MenuValidator;
+import kitchenpos.menu.domain.MenuVersion;
+import kitchenpos.menu.domain.MenuVersionRepository;
 import kitchenpos.menu.ui.request.ChangeNamePriceRequest;
 import kitchenpos.menu.ui.request.CreateMenuRequest;
 import kitchenpos.menu.ui.response.MenuResponse;
+import kitchenpos.menu.ui.response.MenuVersionResponse;
 
 @Service
 public class MenuService {
     private final MenuRepository menuRepository;
+    private final MenuVersionRepository menuVersionRepository;
     private final MenuValidator menuValidator;
+    private final MenuCatalog menuCatalog;
+    private final ApplicationEventPublisher eventPublisher;
 
     public MenuService(
             final MenuRepository menuRepository,
-            final MenuValidator menuValidator
+            final MenuVersionRepository menuVersionRepository,
+            final MenuValidator menuValidator,
+            final MenuCatalog menuCatalog,
+            final ApplicationEventPublisher eventPublisher
     ) {
         this.menuRepository = menuRepository;
+        this.menuVersionRepository = menuVersionRepository;
         this.menuValidator = menuValidator;
+        this.menuCatalog = menuCatalog;
+        this.eventPublisher = eventPublisher;
     }
 
     @Transactional
     public MenuResponse create(final CreateMenuRequest request) {
         menuValidator.validateMenuGroup(request.getMenuGroupId());
-        final Menu menu = getMenu(request);
-        return MenuResponse.from(menuRepository.save(menu));
+        final Menu menu = menuRepository.save(getMenu(request));
+        menuVersionRepository.save(MenuVersion.of(menu, LocalDateTime.now()));
+        eventPublisher.publishEvent(new MenuCatalogChangedEvent(menu.getId()));
+        return MenuResponse.from(menu);
     }
 
     private Menu getMenu(CreateMenuRequest request) {
@@ -44,12 +66,20 @@ public class MenuService {
         return menu;
     }
 
-    @Transactional(readOnly = true)
     public List<MenuResponse> list() {
-        return menuRepository.findAll()
-                             .stream()
-                             .map(MenuResponse::from)
-                             .collect(Collectors.toList());
+        return currentSnapshot().getMenus();
+    }
+
+    public void writeJson(OutputStream outputStream) throws IOException {
+        currentSnapshot().writeJson(outputStream);
+    }
+
+    // 이 노드에서 커밋한 변경이 아직 스냅샷에 없으면, 주 데이터베이스에서 읽어 다시 만든 뒤에 응답한다.
+    private MenuCatalogSnapshot currentSnapshot() {
+        if (menuCatalog.isStale()) {
+            DataSourceRouting.onPrimary(menuCatalog::rebuildIfStale);
+        }
+        return menuCatalog.getSnapshot();
     }
 
     @Transactional
@@ -57,6 +87,16 @@ public class MenuService {
         final Menu menu = menuRepository.findById(menuId)
                                   .orElseThrow(IllegalArgumentException::new);
         menu.changeNameAndPrice(request.getName(), request.getPrice());
-        menuRepository.save(menu); // Domain Event 발행을 위해
+        menuVersionRepository.save(MenuVersion.of(menu, LocalDateTime.now()));
+        eventPublisher.publishEvent(new MenuCatalogChangedEvent(menuId));
+    }
+
+    @Transactional(readOnly = true)
+    public MenuVersionResponse findVersion(Long menuId, LocalDateTime at) {
+        final Optional<MenuVersion> menuVersion = Objects.isNull(at)
+                ? menuVersionRepository.findCurrent(menuId)
+                : menuVersionRepository.findAt(menuId, at);
+        return menuVersion.map(MenuVersionResponse::from)
+                          .orElseThrow(() -> new IllegalArgumentException("해당 시점에 유효한 메뉴 버전이 없습니다."));
     }
 }
@@ -6,21 +6,28 @@ import java.util.List;
 import java.util.Objects;
 import javax.persistence.*;
 
-import org.springframework.data.domain.AbstractAggregateRoot;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+
+import kitchenpos.cache.CacheRegions;
+import kitchenpos.id.ConfigurableIdGenerator;
+import kitchenpos.money.Money;
 
 @Entity
-public class Menu extends AbstractAggregateRoot<Menu> {
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = CacheRegions.MENU)
+public class Menu implements MenuNamePriceView {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(generator = ConfigurableIdGenerator.NAME)
     private Long id;
 
     private String name;
 
-    private BigDecimal price;
+    private Money price;
 
     private Long menuGroupId;
 
     @OneToMany(mappedBy = "menu", cascade = CascadeType.PERSIST)
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = CacheRegions.MENU_MENU_PRODUCTS)
     private List<MenuProduct> menuProducts = new ArrayList<>();
 
     public Menu() {
@@ -39,6 +46,10 @@ public class Menu extends AbstractAggregateRoot<Menu> {
     }
 
     public Menu(Long id, String name, BigDecimal price, Long menuGroupId, List<MenuProduct> menuProducts) {
+        this(id, name, toMoney(price), menuGroupId, menuProducts);
+    }
+
+    public Menu(Long id, String name, Money price, Long menuGroupId, List<MenuProduct> menuProducts) {
         validatesPriceValue(price);
         this.id = id;
         this.name = name;
@@ -47,8 +58,15 @@ public class Menu extends AbstractAggregateRoot<Menu> {
         this.menuProducts = menuProducts;
     }
 
-    private void validatesPriceValue(BigDecimal price) {
-        if (Objects.isNull(price) || price.compareTo(BigDecimal.ZERO) < 0) {
+    private static Money toMoney(BigDecimal price) {
+        if (Objects.isNull(price)) {
+            return null;
+        }
+        return Money.of(price);
+    }
+
+    private void validatesPriceValue(Money price) {
+        if (Objects.isNull(price) || price.isNegative()) {
             throw new IllegalArgumentException("메뉴의 가격은 비어있을 수 없고 0 이상이어야 합니다.");
         }
     }
@@ -59,9 +77,10 @@ public class Menu extends AbstractAggregateRoot<Menu> {
     }
 
     public void changeNameAndPrice(String name, BigDecimal price) {
-        registerEvent(new MenuChangedEvent(this.id, new Menu(this.name, this.price, this.menuGroupId)));
+        final Money newPrice = toMoney(price);
+        validatesPriceValue(newPrice);
         this.name = name;
-        this.price = price;
+        this.price = newPrice;
     }
 
     public Long getId() {
@@ -72,7 +91,7 @@ public class Menu extends AbstractAggregateRoot<Menu> {
         return name;
     }
 
-    public BigDecimal getPrice() {
+    public Money getPrice() {
         return price;
     }
 
@@ -0,0 +1,13 @@
+package kitchenpos.menu.domain;
+
+public class MenuCatalogChangedEvent {
+    private Long menuId;
+
+    public MenuCatalogChangedEvent(Long menuId) {
+        this.menuId = menuId;
+    }
+
+    public Long getMenuId() {
+        return menuId;
+    }
+}
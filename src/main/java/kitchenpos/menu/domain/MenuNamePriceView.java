@@ -0,0 +1,11 @@
+package kitchenpos.menu.domain;
+
+import kitchenpos.money.Money;
+
+public interface MenuNamePriceView {
+    Long getId();
+
+    String getName();
+
+    Money getPrice();
+}
@@ -0,0 +1,8 @@
+package kitchenpos.menu.domain;
+
+import java.util.Collection;
+import java.util.List;
+
+public interface MenuNamePriceViewRepository {
+    List<MenuNamePriceView> findNamePriceViewsByIdIn(Collection<Long> ids);
+}
@@ -0,0 +1,21 @@
+package kitchenpos.menu.domain;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import javax.persistence.EntityManager;
+
+import kitchenpos.cache.EntityLoader;
+
+public class MenuNamePriceViewRepositoryImpl implements MenuNamePriceViewRepository {
+    private final EntityManager entityManager;
+
+    public MenuNamePriceViewRepositoryImpl(EntityManager entityManager) {
+        this.entityManager = entityManager;
+    }
+
+    @Override
+    public List<MenuNamePriceView> findNamePriceViewsByIdIn(Collection<Long> ids) {
+        return Collections.unmodifiableList(EntityLoader.findAllById(entityManager, Menu.class, ids));
+    }
+}
@@ -2,10 +2,17 @@ package kitchenpos.menu.domain;
 
 import javax.persistence.*;
 
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+
+import kitchenpos.cache.CacheRegions;
+import kitchenpos.id.ConfigurableIdGenerator;
+
 @Entity
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = CacheRegions.MENU_PRODUCT)
 public class MenuProduct {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(generator = ConfigurableIdGenerator.NAME)
     private Long seq;
 
     @ManyToOne(fetch = FetchType.LAZY)
@@ -1,6 +1,11 @@
 package kitchenpos.menu.domain;
 
+import java.util.List;
+
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 
-public interface MenuRepository extends JpaRepository<Menu, Long> {
+public interface MenuRepository extends JpaRepository<Menu, Long>, MenuNamePriceViewRepository {
+    @Query("select distinct m from Menu m left join fetch m.menuProducts order by m.id")
+    List<Menu> findAllWithMenuProducts();
 }
@@ -1,12 +1,17 @@
 package kitchenpos.menu.domain;
 
-import java.math.BigDecimal;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 import org.springframework.stereotype.Component;
 
 import kitchenpos.menugroup.domain.MenuGroupRepository;
-import kitchenpos.product.domain.Product;
+import kitchenpos.money.Money;
+import kitchenpos.product.domain.ProductPriceView;
 import kitchenpos.product.domain.ProductRepository;
 
 @Component
@@ -23,20 +28,40 @@ public class MenuValidator {
     }
 
     public void validateMenuGroup(Long menuGroupId) {
-        if (!menuGroupRepository.existsById(menuGroupId)) {
+        if (!menuGroupRepository.findById(menuGroupId).isPresent()) {
             throw new IllegalArgumentException("메뉴 그룹이 존재하지 않습니다.");
         }
     }
 
-    public void validatePrice(List<MenuProduct> menuProducts, BigDecimal price) {
-        BigDecimal sum = BigDecimal.ZERO;
-        for (final MenuProduct menuProduct : menuProducts) {
-            final Product product = productRepository.findById(menuProduct.getProductId())
-                .orElseThrow(() -> new IllegalArgumentException("상품이 존재하지 않습니다."));
-            sum = sum.add(product.calculatePrice(menuProduct.getQuantity()));
-        }
-        if (price.compareTo(sum) > 0) {
+    public void validatePrice(List<MenuProduct> menuProducts, Money price) {
+        final Map<Long, Money> unitPrices = findUnitPrices(menuProducts);
+        final Money sum = Money.sumOf(menuProducts, menuProduct -> unitPrices.get(menuProduct.getProductId()), MenuProduct::getQuantity);
+        if (price.isGreaterThan(sum)) {
             throw new IllegalArgumentException("메뉴의 가격은 제품 단품의 합보다 클 수 없습니다.");
         }
     }
+
+    private Map<Long, Money> findUnitPrices(List<MenuProduct> menuProducts) {
+        final Set<Long> productIds = menuProducts.stream()
+                                                 .map(MenuProduct::getProductId)
+                                                 .collect(Collectors.toCollection(LinkedHashSet::new));
+        if (productIds.isEmpty()) {
+            return new HashMap<>();
+        }
+        final Map<Long, Money> unitPrices = new HashMap<>();
+        for (final ProductPriceView product : productRepository.findPriceViewsByIdIn(productIds)) {
+            unitPrices.put(product.getId(), product.getPrice());
+        }
+        validateProducts(productIds, unitPrices);
+        return unitPrices;
+    }
+
+    private static void validateProducts(Set<Long> productIds, Map<Long, Money> unitPrices) {
+        final Set<Long> notRegisteredProductIds = productIds.stream()
+                                                            .filter(productId -> !unitPrices.containsKey(productId))
+                                                            .collect(Collectors.toCollection(LinkedHashSet::new));
+        if (!notRegisteredProductIds.isEmpty()) {
+            throw new IllegalArgumentException("상품이 존재하지 않습니다. " + notRegisteredProductIds);
+        }
+    }
 }
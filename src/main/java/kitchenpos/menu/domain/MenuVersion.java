@@ -0,0 +1,63 @@
+package kitchenpos.menu.domain;
+
+import java.time.LocalDateTime;
+import javax.persistence.Entity;
+import javax.persistence.GeneratedValue;
+import javax.persistence.Id;
+
+import kitchenpos.id.ConfigurableIdGenerator;
+import kitchenpos.money.Money;
+
+@Entity
+public class MenuVersion {
+    @Id
+    @GeneratedValue(generator = ConfigurableIdGenerator.NAME)
+    private Long id;
+
+    private Long menuId;
+
+    private String name;
+
+    private Money price;
+
+    private LocalDateTime effectiveFrom;
+
+    public MenuVersion() {
+    }
+
+    public MenuVersion(Long menuId, String name, Money price, LocalDateTime effectiveFrom) {
+        this(null, menuId, name, price, effectiveFrom);
+    }
+
+    public MenuVersion(Long id, Long menuId, String name, Money price, LocalDateTime effectiveFrom) {
+        this.id = id;
+        this.menuId = menuId;
+        this.name = name;
+        this.price = price;
+        this.effectiveFrom = effectiveFrom;
+    }
+
+    public static MenuVersion of(Menu menu, LocalDateTime effectiveFrom) {
+        return new MenuVersion(menu.getId(), menu.getName(), menu.getPrice(), effectiveFrom);
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public Long getMenuId() {
+        return menuId;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public Money getPrice() {
+        return price;
+    }
+
+    public LocalDateTime getEffectiveFrom() {
+        return effectiveFrom;
+    }
+}
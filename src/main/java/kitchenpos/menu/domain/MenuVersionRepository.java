@@ -0,0 +1,27 @@
+package kitchenpos.menu.domain;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+
+public interface MenuVersionRepository extends JpaRepository<MenuVersion, Long> {
+    Optional<MenuVersion> findFirstByMenuIdOrderByEffectiveFromDescIdDesc(Long menuId);
+
+    Optional<MenuVersion> findFirstByMenuIdAndEffectiveFromLessThanEqualOrderByEffectiveFromDescIdDesc(Long menuId, LocalDateTime at);
+
+    // 메뉴를 등록하거나 바꿀 때마다 버전이 하나씩 추가되고 지워지지 않으므로, 이 값이 바뀌면 메뉴 목록도 바뀐 것이다.
+    // 노드마다 id 를 묶음으로 미리 받아 두므로 max(id) 만으로는 다른 노드가 더 작은 id 로 추가한 버전을 놓칠 수 있어 개수를 더한다.
+    // 조건 없는 개수와 최대값은 H2 가 행을 읽지 않고 바로 구한다.
+    @Query("select count(v.id) + coalesce(max(v.id), 0) from MenuVersion v")
+    long findCatalogVersion();
+
+    default Optional<MenuVersion> findCurrent(Long menuId) {
+        return findFirstByMenuIdOrderByEffectiveFromDescIdDesc(menuId);
+    }
+
+    default Optional<MenuVersion> findAt(Long menuId, LocalDateTime at) {
+        return findFirstByMenuIdAndEffectiveFromLessThanEqualOrderByEffectiveFromDescIdDesc(menuId, at);
+    }
+}
@@ -4,12 +4,18 @@ import kitchenpos.menu.application.MenuService;
 import kitchenpos.menu.ui.request.ChangeNamePriceRequest;
 import kitchenpos.menu.ui.request.CreateMenuRequest;
 import kitchenpos.menu.ui.response.MenuResponse;
+import kitchenpos.menu.ui.response.MenuVersionResponse;
 
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.format.annotation.DateTimeFormat.ISO;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.io.IOException;
 import java.net.URI;
-import java.util.List;
+import java.time.LocalDateTime;
+import javax.servlet.http.HttpServletResponse;
 
 @RestController
 public class MenuRestController {
@@ -27,10 +33,10 @@ public class MenuRestController {
                 .body(response);
     }
 
-    @GetMapping("/api/menus")
-    public ResponseEntity<List<MenuResponse>> list() {
-        return ResponseEntity.ok()
-                .body(menuService.list());
+    @GetMapping(value = "/api/menus", produces = MediaType.APPLICATION_JSON_VALUE)
+    public void list(final HttpServletResponse response) throws IOException {
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        menuService.writeJson(response.getOutputStream());
     }
 
     @PutMapping("/api/menus/{menuId}")
@@ -41,4 +47,13 @@ public class MenuRestController {
         menuService.changeNamePrice(menuId, request);
         return ResponseEntity.noContent().build();
     }
+
+    @GetMapping("/api/menus/{menuId}/versions")
+    public ResponseEntity<MenuVersionResponse> findVersion(
+            @PathVariable final Long menuId,
+            @RequestParam(required = false) @DateTimeFormat(iso = ISO.DATE_TIME) final LocalDateTime at
+    ) {
+        return ResponseEntity.ok()
+                .body(menuService.findVersion(menuId, at));
+    }
 }
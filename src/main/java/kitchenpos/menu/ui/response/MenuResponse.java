@@ -23,7 +23,7 @@ public class MenuResponse {
     }
 
     public static MenuResponse from(Menu menu) {
-        return new MenuResponse(menu.getId(), menu.getName(), menu.getPrice(), menu.getMenuGroupId(), menuProductResponses(menu));
+        return new MenuResponse(menu.getId(), menu.getName(), menu.getPrice().toBigDecimal(), menu.getMenuGroupId(), menuProductResponses(menu));
     }
 
     private static List<MenuProductResponse> menuProductResponses(Menu menu) {
@@ -0,0 +1,52 @@
+package kitchenpos.menu.ui.response;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+import kitchenpos.menu.domain.MenuVersion;
+
+public class MenuVersionResponse {
+    private Long id;
+    private Long menuId;
+    private String name;
+    private BigDecimal price;
+    private LocalDateTime effectiveFrom;
+
+    public MenuVersionResponse(Long id, Long menuId, String name, BigDecimal price, LocalDateTime effectiveFrom) {
+        this.id = id;
+        this.menuId = menuId;
+        this.name = name;
+        this.price = price;
+        this.effectiveFrom = effectiveFrom;
+    }
+
+    public static MenuVersionResponse from(MenuVersion menuVersion) {
+        return new MenuVersionResponse(
+                menuVersion.getId(),
+                menuVersion.getMenuId(),
+                menuVersion.getName(),
+                menuVersion.getPrice().toBigDecimal(),
+                menuVersion.getEffectiveFrom()
+        );
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public Long getMenuId() {
+        return menuId;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public BigDecimal getPrice() {
+        return price;
+    }
+
+    public LocalDateTime getEffectiveFrom() {
+        return effectiveFrom;
+    }
+}
@@ -2,13 +2,19 @@ package kitchenpos.menugroup.domain;
 
 import javax.persistence.Entity;
 import javax.persistence.GeneratedValue;
-import javax.persistence.GenerationType;
 import javax.persistence.Id;
 
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+
+import kitchenpos.cache.CacheRegions;
+import kitchenpos.id.ConfigurableIdGenerator;
+
 @Entity
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = CacheRegions.MENU_GROUP)
 public class MenuGroup {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(generator = ConfigurableIdGenerator.NAME)
     private Long id;
 
     private String name;
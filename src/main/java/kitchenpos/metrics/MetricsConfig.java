@@ -0,0 +1,78 @@
+package kitchenpos.metrics;
+
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.function.Supplier;
+
+import org.springframework.aop.Advisor;
+import org.springframework.aop.ClassFilter;
+import org.springframework.aop.MethodMatcher;
+import org.springframework.aop.support.ComposablePointcut;
+import org.springframework.aop.support.DefaultPointcutAdvisor;
+import org.springframework.aop.support.StaticMethodMatcher;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Role;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.stereotype.Component;
+import org.springframework.stereotype.Service;
+import org.springframework.util.function.SingletonSupplier;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+// 트랜잭션 프록시와 같은 자동 프록시 생성기를 쓰도록 인프라 역할로 등록한다. AspectJ 의존성 없이 서비스와 검증기를 감싼다.
+// 어드바이저는 다른 빈보다 먼저 만들어지므로, MeterRegistry 는 첫 호출 때 꺼내야 레지스트리 설정이 모두 적용된다.
+@Configuration
+public class MetricsConfig {
+    private static final String BASE_PACKAGE = "kitchenpos.";
+    private static final String SERVICE_PACKAGE_SUFFIX = ".application";
+    private static final String DOMAIN_PACKAGE_SUFFIX = ".domain";
+    private static final String VALIDATOR_SUFFIX = "Validator";
+
+    @Bean
+    @Role(BeanDefinition.ROLE_INFRASTRUCTURE)
+    public static Advisor serviceTimingAdvisor(ObjectProvider<MeterRegistry> meterRegistry) {
+        ClassFilter services = type -> AnnotatedElementUtils.hasAnnotation(type, Service.class)
+                && isIn(type, SERVICE_PACKAGE_SUFFIX);
+        DefaultPointcutAdvisor advisor = new DefaultPointcutAdvisor(
+                new ComposablePointcut(services, publicMethods()),
+                new ServiceTimingInterceptor(lazily(meterRegistry))
+        );
+        // 트랜잭션 바깥에서 재야 커밋 시간까지 포함된다.
+        advisor.setOrder(Ordered.HIGHEST_PRECEDENCE);
+        return advisor;
+    }
+
+    @Bean
+    @Role(BeanDefinition.ROLE_INFRASTRUCTURE)
+    public static Advisor validationRejectionAdvisor(ObjectProvider<MeterRegistry> meterRegistry) {
+        ClassFilter validators = type -> AnnotatedElementUtils.hasAnnotation(type, Component.class)
+                && type.getSimpleName().endsWith(VALIDATOR_SUFFIX)
+                && isIn(type, DOMAIN_PACKAGE_SUFFIX);
+        return new DefaultPointcutAdvisor(
+                new ComposablePointcut(validators, publicMethods()),
+                new ValidationRejectionInterceptor(lazily(meterRegistry))
+        );
+    }
+
+    private static Supplier<MeterRegistry> lazily(ObjectProvider<MeterRegistry> meterRegistry) {
+        return SingletonSupplier.of(meterRegistry::getObject);
+    }
+
+    private static boolean isIn(Class<?> type, String packageSuffix) {
+        String packageName = type.getPackage().getName();
+        return packageName.startsWith(BASE_PACKAGE) && packageName.endsWith(packageSuffix);
+    }
+
+    private static MethodMatcher publicMethods() {
+        return new StaticMethodMatcher() {
+            @Override
+            public boolean matches(Method method, Class<?> targetClass) {
+                return Modifier.isPublic(method.getModifiers()) && method.getDeclaringClass() != Object.class;
+            }
+        };
+    }
+}
@@ -0,0 +1,36 @@
+package kitchenpos.metrics;
+
+import java.util.concurrent.TimeUnit;
+
+public class QueryCount {
+    private final QueryCount parent;
+    private int statements;
+    private long elapsedNanos;
+
+    QueryCount(QueryCount parent) {
+        this.parent = parent;
+    }
+
+    void add(long nanos) {
+        for (QueryCount count = this; count != null; count = count.parent) {
+            count.statements++;
+            count.elapsedNanos += nanos;
+        }
+    }
+
+    QueryCount getParent() {
+        return parent;
+    }
+
+    public int getStatements() {
+        return statements;
+    }
+
+    public long getElapsedNanos() {
+        return elapsedNanos;
+    }
+
+    public double getElapsedMillis() {
+        return TimeUnit.NANOSECONDS.toMicros(elapsedNanos) / 1000.0;
+    }
+}
@@ -0,0 +1,131 @@
+package kitchenpos.metrics;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.util.concurrent.TimeUnit;
+import javax.servlet.FilterChain;
+import javax.servlet.ServletException;
+import javax.servlet.ServletOutputStream;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import javax.servlet.http.HttpServletResponseWrapper;
+
+import org.springframework.core.env.Environment;
+import org.springframework.core.env.Profiles;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+@Component
+public class QueryCountFilter extends OncePerRequestFilter {
+    public static final String COUNT_HEADER = "X-Query-Count";
+    public static final String TIME_HEADER = "X-Query-Time-Millis";
+
+    private static final String METRIC_PREFIX = "kitchenpos.http.sql";
+    private static final String UNKNOWN_URI = "UNKNOWN";
+
+    private final MeterRegistry meterRegistry;
+    private final boolean exposeHeaders;
+
+    public QueryCountFilter(MeterRegistry meterRegistry, Environment environment) {
+        this.meterRegistry = meterRegistry;
+        this.exposeHeaders = environment.acceptsProfiles(Profiles.of("!prod"));
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        QueryCount count = QueryCounter.start();
+        try {
+            if (!exposeHeaders) {
+                filterChain.doFilter(request, response);
+                return;
+            }
+            QueryCountHeaderResponse countingResponse = new QueryCountHeaderResponse(response, count);
+            filterChain.doFilter(request, countingResponse);
+            countingResponse.writeHeaders();
+        } finally {
+            QueryCounter.stop(count);
+            record(request, count);
+        }
+    }
+
+    private void record(HttpServletRequest request, QueryCount count) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        String uri = pattern == null ? UNKNOWN_URI : pattern.toString();
+        DistributionSummary.builder(METRIC_PREFIX + ".statements")
+                           .description("요청 하나에서 실행한 SQL 수")
+                           .tag("method", request.getMethod())
+                           .tag("uri", uri)
+                           .publishPercentileHistogram()
+                           .register(meterRegistry)
+                           .record(count.getStatements());
+        Timer.builder(METRIC_PREFIX + ".time")
+             .description("요청 하나에서 SQL 실행에 쓴 시간")
+             .tag("method", request.getMethod())
+             .tag("uri", uri)
+             .publishPercentileHistogram()
+             .register(meterRegistry)
+             .record(count.getElapsedNanos(), TimeUnit.NANOSECONDS);
+    }
+
+    // 헤더는 응답이 커밋되기 전에만 쓸 수 있으므로, 본문을 쓰기 시작하는 시점의 집계를 헤더로 내보낸다.
+    private static class QueryCountHeaderResponse extends HttpServletResponseWrapper {
+        private final QueryCount count;
+        private boolean written;
+
+        QueryCountHeaderResponse(HttpServletResponse response, QueryCount count) {
+            super(response);
+            this.count = count;
+        }
+
+        void writeHeaders() {
+            if (written || isCommitted()) {
+                return;
+            }
+            written = true;
+            setHeader(COUNT_HEADER, String.valueOf(count.getStatements()));
+            setHeader(TIME_HEADER, String.valueOf(count.getElapsedMillis()));
+        }
+
+        @Override
+        public ServletOutputStream getOutputStream() throws IOException {
+            writeHeaders();
+            return super.getOutputStream();
+        }
+
+        @Override
+        public PrintWriter getWriter() throws IOException {
+            writeHeaders();
+            return super.getWriter();
+        }
+
+        @Override
+        public void flushBuffer() throws IOException {
+            writeHeaders();
+            super.flushBuffer();
+        }
+
+        @Override
+        public void sendError(int sc) throws IOException {
+            writeHeaders();
+            super.sendError(sc);
+        }
+
+        @Override
+        public void sendError(int sc, String msg) throws IOException {
+            writeHeaders();
+            super.sendError(sc, msg);
+        }
+
+        @Override
+        public void sendRedirect(String location) throws IOException {
+            writeHeaders();
+            super.sendRedirect(location);
+        }
+    }
+}
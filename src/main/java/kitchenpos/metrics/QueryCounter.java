@@ -0,0 +1,33 @@
+package kitchenpos.metrics;
+
+// 현재 스레드에서 실행된 SQL 수와 시간을 센다. 범위는 중첩할 수 있고, 안쪽에서 센 쿼리는 바깥 범위에도 더해진다.
+public final class QueryCounter {
+    private static final ThreadLocal<QueryCount> CURRENT = new ThreadLocal<>();
+
+    private QueryCounter() {
+    }
+
+    public static QueryCount start() {
+        QueryCount count = new QueryCount(CURRENT.get());
+        CURRENT.set(count);
+        return count;
+    }
+
+    public static void stop(QueryCount count) {
+        if (CURRENT.get() != count) {
+            throw new IllegalStateException("가장 안쪽의 쿼리 집계부터 끝내야 합니다.");
+        }
+        if (count.getParent() == null) {
+            CURRENT.remove();
+            return;
+        }
+        CURRENT.set(count.getParent());
+    }
+
+    static void record(long nanos) {
+        QueryCount count = CURRENT.get();
+        if (count != null) {
+            count.add(nanos);
+        }
+    }
+}
@@ -0,0 +1,31 @@
+package kitchenpos.metrics;
+
+import org.hibernate.BaseSessionEventListener;
+
+// hibernate.session.events.auto 로 등록되어 세션마다 하나씩 만들어진다.
+public class QueryCountingSessionListener extends BaseSessionEventListener {
+    private static final long serialVersionUID = 1L;
+
+    private long statementStartedAt;
+    private long batchStartedAt;
+
+    @Override
+    public void jdbcExecuteStatementStart() {
+        statementStartedAt = System.nanoTime();
+    }
+
+    @Override
+    public void jdbcExecuteStatementEnd() {
+        QueryCounter.record(System.nanoTime() - statementStartedAt);
+    }
+
+    @Override
+    public void jdbcExecuteBatchStart() {
+        batchStartedAt = System.nanoTime();
+    }
+
+    @Override
+    public void jdbcExecuteBatchEnd() {
+        QueryCounter.record(System.nanoTime() - batchStartedAt);
+    }
+}
@@ -0,0 +1,49 @@
+package kitchenpos.metrics;
+
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+public class ServiceTimingInterceptor implements MethodInterceptor {
+    public static final String METRIC_NAME = "kitchenpos.service";
+
+    private static final String NO_EXCEPTION = "none";
+
+    private final Supplier<MeterRegistry> meterRegistry;
+    private final Map<Method, Timer> succeededTimers = new ConcurrentHashMap<>();
+
+    public ServiceTimingInterceptor(Supplier<MeterRegistry> meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public Object invoke(MethodInvocation invocation) throws Throwable {
+        Timer.Sample sample = Timer.start(meterRegistry.get());
+        try {
+            Object result = invocation.proceed();
+            sample.stop(succeededTimers.computeIfAbsent(invocation.getMethod(), method -> timer(method, NO_EXCEPTION)));
+            return result;
+        } catch (Throwable e) {
+            sample.stop(timer(invocation.getMethod(), e.getClass().getSimpleName()));
+            throw e;
+        }
+    }
+
+    private Timer timer(Method method, String exception) {
+        return Timer.builder(METRIC_NAME)
+                    .description("서비스 작업 하나를 처리하는 데 걸린 시간")
+                    .tag("class", method.getDeclaringClass().getSimpleName())
+                    .tag("method", method.getName())
+                    .tag("exception", exception)
+                    .publishPercentileHistogram()
+                    .publishPercentiles(0.5, 0.95, 0.99)
+                    .register(meterRegistry.get());
+    }
+}
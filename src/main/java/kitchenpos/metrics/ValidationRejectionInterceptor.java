@@ -0,0 +1,48 @@
+package kitchenpos.metrics;
+
+import java.util.function.Supplier;
+
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+import org.springframework.aop.framework.ProxyFactory;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+
+public class ValidationRejectionInterceptor implements MethodInterceptor {
+    public static final String METRIC_NAME = "kitchenpos.validation.rejected";
+
+    private static final String VALIDATOR_SUFFIX = "Validator";
+
+    private final Supplier<MeterRegistry> meterRegistry;
+
+    public ValidationRejectionInterceptor(Supplier<MeterRegistry> meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public Object invoke(MethodInvocation invocation) throws Throwable {
+        try {
+            return countingRejectionsOf(invocation.proceed());
+        } catch (IllegalArgumentException e) {
+            Counter.builder(METRIC_NAME)
+                   .description("검증에서 거절된 요청 수")
+                   .tag("validator", invocation.getMethod().getDeclaringClass().getSimpleName())
+                   .tag("method", invocation.getMethod().getName())
+                   .register(meterRegistry.get())
+                   .increment();
+            throw e;
+        }
+    }
+
+    // 검증기가 돌려준 검증기(예: 주문 일괄 검증기)에서 거절된 요청도 함께 센다.
+    private Object countingRejectionsOf(Object result) {
+        if (result == null || !result.getClass().getSimpleName().endsWith(VALIDATOR_SUFFIX)) {
+            return result;
+        }
+        ProxyFactory proxyFactory = new ProxyFactory(result);
+        proxyFactory.setProxyTargetClass(true);
+        proxyFactory.addAdvice(this);
+        return proxyFactory.getProxy(result.getClass().getClassLoader());
+    }
+}
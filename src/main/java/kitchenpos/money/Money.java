@@ -0,0 +1,119 @@
+package kitchenpos.money;
+
+import java.io.Serializable;
+import java.math.BigDecimal;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.function.ToLongFunction;
+
+public final class Money implements Comparable<Money>, Serializable {
+    private static final long serialVersionUID = 1L;
+
+    public static final int SCALE = 2;
+    public static final Money ZERO = new Money(0L);
+
+    private static final long MINOR_UNITS_PER_MAJOR = 100L;
+
+    private final long minorUnits;
+
+    private Money(long minorUnits) {
+        this.minorUnits = minorUnits;
+    }
+
+    public static Money of(long amount) {
+        try {
+            return new Money(Math.multiplyExact(amount, MINOR_UNITS_PER_MAJOR));
+        } catch (ArithmeticException e) {
+            throw outOfRange();
+        }
+    }
+
+    public static Money of(BigDecimal amount) {
+        if (Objects.isNull(amount)) {
+            throw new IllegalArgumentException("금액은 비어있을 수 없습니다.");
+        }
+        try {
+            return new Money(amount.movePointRight(SCALE).longValueExact());
+        } catch (ArithmeticException e) {
+            throw new IllegalArgumentException("금액은 소수점 아래 " + SCALE + "자리까지, long 범위 안에서만 나타낼 수 있습니다. " + amount);
+        }
+    }
+
+    public static Money ofMinorUnits(long minorUnits) {
+        return new Money(minorUnits);
+    }
+
+    public static <T> Money sumOf(Iterable<T> items, Function<T, Money> unitPrice, ToLongFunction<T> quantity) {
+        long sum = 0L;
+        try {
+            for (final T item : items) {
+                sum = Math.addExact(sum, Math.multiplyExact(unitPrice.apply(item).minorUnits, quantity.applyAsLong(item)));
+            }
+        } catch (ArithmeticException e) {
+            throw outOfRange();
+        }
+        return new Money(sum);
+    }
+
+    public Money plus(Money other) {
+        try {
+            return new Money(Math.addExact(minorUnits, other.minorUnits));
+        } catch (ArithmeticException e) {
+            throw outOfRange();
+        }
+    }
+
+    public Money times(long quantity) {
+        try {
+            return new Money(Math.multiplyExact(minorUnits, quantity));
+        } catch (ArithmeticException e) {
+            throw outOfRange();
+        }
+    }
+
+    public boolean isNegative() {
+        return minorUnits < 0;
+    }
+
+    public boolean isGreaterThan(Money other) {
+        return minorUnits > other.minorUnits;
+    }
+
+    public long getMinorUnits() {
+        return minorUnits;
+    }
+
+    public BigDecimal toBigDecimal() {
+        return BigDecimal.valueOf(minorUnits, SCALE);
+    }
+
+    private static IllegalArgumentException outOfRange() {
+        return new IllegalArgumentException("금액이 나타낼 수 있는 범위를 벗어났습니다.");
+    }
+
+    @Override
+    public int compareTo(Money other) {
+        return Long.compare(minorUnits, other.minorUnits);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        return minorUnits == ((Money) o).minorUnits;
+    }
+
+    @Override
+    public int hashCode() {
+        return Long.hashCode(minorUnits);
+    }
+
+    @Override
+    public String toString() {
+        return toBigDecimal().toPlainString();
+    }
+}
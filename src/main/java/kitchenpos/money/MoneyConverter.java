@@ -0,0 +1,26 @@
+package kitchenpos.money;
+
+import java.math.BigDecimal;
+import java.util.Objects;
+import javax.persistence.AttributeConverter;
+import javax.persistence.Converter;
+
+@Converter(autoApply = true)
+public class MoneyConverter implements AttributeConverter<Money, BigDecimal> {
+
+    @Override
+    public BigDecimal convertToDatabaseColumn(Money money) {
+        if (Objects.isNull(money)) {
+            return null;
+        }
+        return money.toBigDecimal();
+    }
+
+    @Override
+    public Money convertToEntityAttribute(BigDecimal amount) {
+        if (Objects.isNull(amount)) {
+            return null;
+        }
+        return Money.of(amount);
+    }
+}
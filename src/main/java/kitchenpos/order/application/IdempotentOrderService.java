@@ -0,0 +1,71 @@
+package kitchenpos.order.application;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+
+import kitchenpos.datasource.DataSourceRouting;
+import kitchenpos.order.domain.OrderIdempotencyKey;
+import kitchenpos.order.ui.request.CreateOrderRequest;
+import kitchenpos.order.ui.response.CreateOrderResponse;
+
+// 최근 멱등 키의 응답을 메모리에 두고, 같은 키로 다시 요청하면 주문을 등록하지 않고 처음 응답을 돌려준다.
+@Service
+public class IdempotentOrderService {
+    private static final String CACHE_NAME = "kitchenpos.order.idempotency";
+
+    private final OrderIdempotencyStore store;
+    private final Cache<String, IdempotentResponse> responses;
+
+    public IdempotentOrderService(
+            final OrderIdempotencyStore store,
+            final OrderIdempotencyProperties properties,
+            final MeterRegistry meterRegistry
+    ) {
+        this.store = store;
+        this.responses = Caffeine.newBuilder()
+                                 .maximumSize(properties.getMaximumSize())
+                                 .expireAfterWrite(properties.getTtl())
+                                 .recordStats()
+                                 .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, responses, CACHE_NAME);
+    }
+
+    public CreateOrderResponse create(final String idempotencyKey, final CreateOrderRequest request) {
+        OrderIdempotencyKey.validate(idempotencyKey);
+        final String requestHash = OrderRequestHash.of(request);
+        final IdempotentResponse cached = responses.getIfPresent(idempotencyKey);
+        if (cached != null) {
+            OrderIdempotencyKey.validateSameRequest(cached.requestHash, requestHash);
+            return cached.response;
+        }
+        final CreateOrderResponse response = createOnce(idempotencyKey, requestHash, request);
+        responses.put(idempotencyKey, new IdempotentResponse(requestHash, response));
+        return response;
+    }
+
+    private CreateOrderResponse createOnce(String idempotencyKey, String requestHash, CreateOrderRequest request) {
+        try {
+            return store.create(idempotencyKey, requestHash, request);
+        } catch (DataIntegrityViolationException e) {
+            // 같은 키의 요청이 동시에 들어와 다른 요청이 먼저 커밋했다. 방금 커밋된 주문이므로 주 데이터베이스에서 읽는다.
+            return DataSourceRouting.onPrimary(() -> store.findCreated(idempotencyKey, requestHash))
+                                    .orElseThrow(() -> e);
+        }
+    }
+
+    private static class IdempotentResponse {
+        private final String requestHash;
+        private final CreateOrderResponse response;
+
+        IdempotentResponse(String requestHash, CreateOrderResponse response) {
+            this.requestHash = requestHash;
+            this.response = response;
+        }
+    }
+}
@@ -0,0 +1,40 @@
+package kitchenpos.order.application;
+
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.scheduling.annotation.SchedulingConfigurer;
+import org.springframework.scheduling.config.IntervalTask;
+import org.springframework.scheduling.config.ScheduledTaskRegistrar;
+
+@EnableScheduling
+@Configuration
+@EnableConfigurationProperties(OrderIdempotencyProperties.class)
+public class OrderIdempotencyConfig implements SchedulingConfigurer {
+    private final OrderIdempotencyStore store;
+    private final OrderIdempotencyProperties properties;
+
+    public OrderIdempotencyConfig(OrderIdempotencyStore store, OrderIdempotencyProperties properties) {
+        validate(properties);
+        this.store = store;
+        this.properties = properties;
+    }
+
+    @Override
+    public void configureTasks(ScheduledTaskRegistrar registrar) {
+        long interval = properties.getPurgeInterval().toMillis();
+        registrar.addFixedDelayTask(new IntervalTask(store::purgeExpired, interval, interval));
+    }
+
+    private void validate(OrderIdempotencyProperties properties) {
+        if (properties.getMaximumSize() < 1) {
+            throw new IllegalArgumentException("멱등 키 캐시 크기는 1 이상이어야 합니다.");
+        }
+        if (properties.getTtl().isNegative() || properties.getTtl().isZero()) {
+            throw new IllegalArgumentException("멱등 키 보관 기간은 0보다 길어야 합니다.");
+        }
+        if (properties.getPurgeInterval().isNegative() || properties.getPurgeInterval().isZero()) {
+            throw new IllegalArgumentException("만료된 멱등 키를 지우는 주기는 0보다 길어야 합니다.");
+        }
+    }
+}
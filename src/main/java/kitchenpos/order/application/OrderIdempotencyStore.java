@@ -0,0 +1,71 @@
+package kitchenpos.order.application;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import kitchenpos.order.domain.OrderIdempotencyKey;
+import kitchenpos.order.domain.OrderIdempotencyKeyRepository;
+import kitchenpos.order.domain.OrderRepository;
+import kitchenpos.order.ui.request.CreateOrderRequest;
+import kitchenpos.order.ui.response.CreateOrderResponse;
+
+// 멱등 키를 주문과 같은 트랜잭션에서 저장해, 재시작 후에도 같은 키의 재시도에 처음 등록한 주문으로 응답한다.
+@Service
+public class OrderIdempotencyStore {
+    private final OrderService orderService;
+    private final OrderRepository orderRepository;
+    private final OrderIdempotencyKeyRepository idempotencyKeyRepository;
+    private final Duration ttl;
+
+    public OrderIdempotencyStore(
+            final OrderService orderService,
+            final OrderRepository orderRepository,
+            final OrderIdempotencyKeyRepository idempotencyKeyRepository,
+            final OrderIdempotencyProperties properties
+    ) {
+        this.orderService = orderService;
+        this.orderRepository = orderRepository;
+        this.idempotencyKeyRepository = idempotencyKeyRepository;
+        this.ttl = properties.getTtl();
+    }
+
+    @Transactional
+    public CreateOrderResponse create(final String idempotencyKey, final String requestHash, final CreateOrderRequest request) {
+        final Optional<OrderIdempotencyKey> found = idempotencyKeyRepository.findForUpdateByIdempotencyKey(idempotencyKey);
+        final Optional<CreateOrderResponse> created = found.flatMap(key -> findCreated(key, requestHash));
+        if (created.isPresent()) {
+            return created.get();
+        }
+        final CreateOrderResponse response = orderService.create(request);
+        if (found.isPresent()) {
+            found.get().renew(response.getId(), requestHash);
+        } else {
+            idempotencyKeyRepository.save(new OrderIdempotencyKey(idempotencyKey, response.getId(), requestHash));
+        }
+        return response;
+    }
+
+    @Transactional(readOnly = true)
+    public Optional<CreateOrderResponse> findCreated(final String idempotencyKey, final String requestHash) {
+        return idempotencyKeyRepository.findById(idempotencyKey)
+                                       .flatMap(key -> findCreated(key, requestHash));
+    }
+
+    private Optional<CreateOrderResponse> findCreated(OrderIdempotencyKey idempotencyKey, String requestHash) {
+        if (idempotencyKey.isExpired(LocalDateTime.now(), ttl)) {
+            return Optional.empty();
+        }
+        idempotencyKey.validateSameRequest(requestHash);
+        return orderRepository.findWithOrderLineItemsById(idempotencyKey.getOrderId())
+                              .map(CreateOrderResponse::from);
+    }
+
+    @Transactional
+    public int purgeExpired() {
+        return idempotencyKeyRepository.deleteAllCreatedAtOrBefore(LocalDateTime.now().minus(ttl));
+    }
+}
@@ -0,0 +1,35 @@
+package kitchenpos.order.application;
+
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+
+import kitchenpos.order.ui.request.CreateOrderRequest;
+import kitchenpos.order.ui.request.OrderLineItemRequest;
+
+// 멱등 키로 재시도한 요청이 처음 요청과 같은지 비교할 수 있도록, 주문 요청의 테이블과 항목을 순서대로 이어 SHA-256 으로 요약한다.
+public final class OrderRequestHash {
+    private static final String ALGORITHM = "SHA-256";
+
+    private OrderRequestHash() {
+    }
+
+    public static String of(CreateOrderRequest request) {
+        StringBuilder canonical = new StringBuilder().append(request.getOrderTableId());
+        if (request.getOrderLineItems() != null) {
+            for (OrderLineItemRequest item : request.getOrderLineItems()) {
+                canonical.append(';').append(item.getMenuId()).append(':').append(item.getQuantity());
+            }
+        }
+        return String.format("%064x", new BigInteger(1, digest(canonical.toString())));
+    }
+
+    private static byte[] digest(String canonical) {
+        try {
+            return MessageDigest.getInstance(ALGORITHM).digest(canonical.getBytes(StandardCharsets.UTF_8));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
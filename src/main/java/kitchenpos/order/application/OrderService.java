@@ -1,15 +1,35 @@
 package kitchenpos.order.application;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import javax.persistence.EntityManager;
 
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.util.CollectionUtils;
 
+import kitchenpos.order.domain.OrderBatchValidator;
+import kitchenpos.order.domain.OrderMenus;
 import kitchenpos.order.domain.OrderValidator;
 import kitchenpos.order.ui.request.ChangeOrderStatusRequest;
 import kitchenpos.order.ui.request.CreateOrderRequest;
+import kitchenpos.order.ui.request.CreateOrdersRequest;
+import kitchenpos.order.ui.request.OrderExportRequest;
+import kitchenpos.order.ui.request.OrderLineItemRequest;
+import kitchenpos.order.ui.request.OrderSearchRequest;
 import kitchenpos.order.ui.response.CreateOrderResponse;
+import kitchenpos.order.ui.response.CreateOrderResultResponse;
+import kitchenpos.order.ui.response.CreateOrdersResponse;
+import kitchenpos.order.ui.response.OrderPageResponse;
 import kitchenpos.order.ui.response.OrderResponse;
 import kitchenpos.order.domain.Order;
 import kitchenpos.order.domain.OrderLineItem;
@@ -17,15 +37,22 @@ import kitchenpos.order.domain.OrderRepository;
 
 @Service
 public class OrderService {
+    private static final int MAX_PAGE_SIZE = 100;
+    private static final int MAX_BATCH_SIZE = 100;
+    private static final int EXPORT_CHUNK_SIZE = 500;
+
     private final OrderRepository orderRepository;
     private final OrderValidator orderValidator;
+    private final EntityManager entityManager;
 
     public OrderService(
             final OrderRepository orderRepository,
-            final OrderValidator orderValidator
+            final OrderValidator orderValidator,
+            final EntityManager entityManager
     ) {
         this.orderRepository = orderRepository;
         this.orderValidator = orderValidator;
+        this.entityManager = entityManager;
     }
 
     @Transactional
@@ -36,29 +63,151 @@ public class OrderService {
     }
 
     private Order getOrder(CreateOrderRequest request) {
+        final OrderMenus orderMenus = orderValidator.validateMenus(menuIds(request));
+        return toOrder(request, orderMenus);
+    }
+
+    private Order toOrder(CreateOrderRequest request, OrderMenus orderMenus) {
         final Order order = new Order(request.getOrderTableId());
         List<OrderLineItem> orderLineItems = request.getOrderLineItems()
                                              .stream()
-                                             .map(item -> {
-                                                 orderValidator.validateMenu(item.getMenuId());
-                                                 return new OrderLineItem(order, item.getMenuId(), item.getQuantity());
-                                             })
+                                             .map(item -> orderMenus.toOrderLineItem(order, item.getMenuId(), item.getQuantity()))
                                              .collect(Collectors.toList());
         order.addOrderLineItem(orderLineItems);
         return order;
     }
 
+    @Transactional
+    public CreateOrdersResponse createAll(final CreateOrdersRequest request) {
+        final List<CreateOrderRequest> requests = request.getOrders();
+        validateBatchSize(requests);
+        final OrderBatchValidator batchValidator = orderValidator.prepare(tableIds(requests), allMenuIds(requests));
+
+        final List<CreateOrderResultResponse> results = new ArrayList<>();
+        final Map<Integer, Order> orders = new LinkedHashMap<>();
+        for (int index = 0; index < requests.size(); index++) {
+            final CreateOrderRequest orderRequest = requests.get(index);
+            try {
+                validateOrderRequest(orderRequest);
+                batchValidator.validate(orderRequest.getOrderTableId(), menuIds(orderRequest));
+                orders.put(index, toOrder(orderRequest, batchValidator.getOrderMenus()));
+            } catch (IllegalArgumentException e) {
+                results.add(CreateOrderResultResponse.failure(index, e.getMessage()));
+            }
+        }
+        orderRepository.saveAll(orders.values());
+
+        orders.forEach((index, order) -> results.add(CreateOrderResultResponse.success(index, CreateOrderResponse.from(order))));
+        results.sort(Comparator.comparingInt(CreateOrderResultResponse::getIndex));
+        return new CreateOrdersResponse(results);
+    }
+
+    private void validateBatchSize(List<CreateOrderRequest> requests) {
+        if (CollectionUtils.isEmpty(requests) || requests.size() > MAX_BATCH_SIZE) {
+            throw new IllegalArgumentException("한 번에 등록할 수 있는 주문은 1개 이상 " + MAX_BATCH_SIZE + "개 이하입니다.");
+        }
+    }
+
+    // 요청마다 실패로 응답할 수 있도록, 비어있는 주문이 일괄 검증 준비를 깨뜨리지 않게 건너뛴다.
+    private void validateOrderRequest(CreateOrderRequest request) {
+        if (Objects.isNull(request)) {
+            throw new IllegalArgumentException("주문 정보가 비어있습니다.");
+        }
+        if (CollectionUtils.isEmpty(request.getOrderLineItems())) {
+            throw new IllegalArgumentException("주문하려면 하나 이상의 메뉴가 필요합니다.");
+        }
+        if (request.getOrderLineItems().contains(null)) {
+            throw new IllegalArgumentException("주문 항목 정보가 비어있습니다.");
+        }
+    }
+
+    private List<Long> tableIds(List<CreateOrderRequest> requests) {
+        return requests.stream()
+                       .filter(Objects::nonNull)
+                       .map(CreateOrderRequest::getOrderTableId)
+                       .filter(Objects::nonNull)
+                       .collect(Collectors.toList());
+    }
+
+    private List<Long> allMenuIds(List<CreateOrderRequest> requests) {
+        return requests.stream()
+                       .filter(Objects::nonNull)
+                       .flatMap(request -> menuIds(request).stream())
+                       .collect(Collectors.toList());
+    }
+
+    private List<Long> menuIds(CreateOrderRequest request) {
+        if (Objects.isNull(request.getOrderLineItems())) {
+            return Collections.emptyList();
+        }
+        return request.getOrderLineItems()
+                      .stream()
+                      .filter(Objects::nonNull)
+                      .map(OrderLineItemRequest::getMenuId)
+                      .collect(Collectors.toList());
+    }
+
     @Transactional(readOnly = true)
-    public List<OrderResponse> list() {
-        return orderRepository.findAll()
-                              .stream()
-                              .map(OrderResponse::from)
-                              .collect(Collectors.toList());
+    public OrderPageResponse list(final OrderSearchRequest request) {
+        final int size = request.getSize();
+        validatePageSize(size);
+        final List<Long> orderIds = orderRepository.findIdsAfter(
+                request.getCursor(),
+                request.getOrderStatus(),
+                request.getOrderTableId(),
+                request.getOrderedTimeFrom(),
+                request.getOrderedTimeTo(),
+                PageRequest.of(0, size + 1)
+        );
+        final boolean hasNext = orderIds.size() > size;
+        final List<Order> orders = findOrdersWithOrderLineItems(orderIds.subList(0, Math.min(size, orderIds.size())));
+        return OrderPageResponse.of(orders, hasNext);
+    }
+
+    private List<Order> findOrdersWithOrderLineItems(List<Long> orderIds) {
+        if (orderIds.isEmpty()) {
+            return Collections.emptyList();
+        }
+        return orderRepository.findAllWithOrderLineItemsByIdIn(orderIds);
+    }
+
+    // 주문 수와 관계없이 메모리를 일정하게 쓰도록, 읽은 주문을 묶음 단위로 내보내고 영속성 컨텍스트를 비운다.
+    @Transactional(readOnly = true)
+    public void export(final OrderExportRequest request, final Consumer<OrderResponse> writer) {
+        final List<Long> chunk = new ArrayList<>(EXPORT_CHUNK_SIZE);
+        try (Stream<Order> orders = orderRepository.streamAll(
+                request.getOrderStatus(),
+                request.getOrderedTimeFrom(),
+                request.getOrderedTimeTo()
+        )) {
+            orders.forEach(order -> {
+                chunk.add(order.getId());
+                if (chunk.size() == EXPORT_CHUNK_SIZE) {
+                    exportChunk(chunk, writer);
+                }
+            });
+        }
+        exportChunk(chunk, writer);
+    }
+
+    private void exportChunk(List<Long> orderIds, Consumer<OrderResponse> writer) {
+        // 주문 항목을 채우는 쿼리는 id 순서로 돌려주므로, 내보내기 순서(주문 시각, id)로 다시 맞춘다.
+        findOrdersWithOrderLineItems(orderIds).stream()
+                .sorted(Comparator.comparing(Order::getOrderedTime).thenComparing(Order::getId))
+                .forEach(order -> writer.accept(OrderResponse.from(order)));
+        orderIds.clear();
+        entityManager.clear();
+    }
+
+    private void validatePageSize(int size) {
+        if (size < 1 || size > MAX_PAGE_SIZE) {
+            throw new IllegalArgumentException("한 번에 조회할 수 있는 주문은 1개 이상 " + MAX_PAGE_SIZE + "개 이하입니다.");
+        }
     }
 
     @Transactional
     public OrderResponse changeOrderStatus(final Long orderId, final ChangeOrderStatusRequest request) {
-        final Order order = orderRepository.findById(orderId)
+        final Order order = orderRepository.findWithOrderLineItemsById(orderId)
             .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 주문의 상태는 변경할 수 없습니다."));
 
         order.changeOrderStatus(request.getOrderStatus());
@@ -5,11 +5,13 @@ import java.util.ArrayList;
 import java.util.List;
 import javax.persistence.*;
 
+import kitchenpos.id.ConfigurableIdGenerator;
+
 @Entity
 @Table(name = "orders")
 public class Order {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(generator = ConfigurableIdGenerator.NAME)
     private Long id;
 
     private Long orderTableId;
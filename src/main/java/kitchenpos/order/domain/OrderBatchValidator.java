@@ -0,0 +1,24 @@
+package kitchenpos.order.domain;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+public class OrderBatchValidator {
+    private final Map<Long, Boolean> emptyByTableId;
+    private final OrderMenus orderMenus;
+
+    public OrderBatchValidator(Map<Long, Boolean> emptyByTableId, OrderMenus orderMenus) {
+        this.emptyByTableId = emptyByTableId;
+        this.orderMenus = orderMenus;
+    }
+
+    public void validate(Long tableId, List<Long> menuIds) {
+        OrderValidator.validateTable(Optional.ofNullable(emptyByTableId.get(tableId)));
+        OrderValidator.validateMenus(menuIds, orderMenus.getIds());
+    }
+
+    public OrderMenus getOrderMenus() {
+        return orderMenus;
+    }
+}
@@ -0,0 +1,8 @@
+package kitchenpos.order.domain;
+
+import java.time.LocalDateTime;
+import java.util.stream.Stream;
+
+public interface OrderExportRepository {
+    Stream<Order> streamAll(OrderStatus orderStatus, LocalDateTime orderedTimeFrom, LocalDateTime orderedTimeTo);
+}
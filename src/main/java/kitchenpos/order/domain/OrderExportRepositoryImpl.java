@@ -0,0 +1,53 @@
+package kitchenpos.order.domain;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.stream.Stream;
+import javax.persistence.EntityManager;
+import javax.persistence.TypedQuery;
+
+import org.hibernate.jpa.QueryHints;
+
+// "(:x is null or ...)" 조건은 인덱스를 쓰지 못하므로 주어진 조건만으로 쿼리를 만든다.
+// 결과 전체를 메모리에 올리지 않도록 커서로 읽는다. 주문 항목은 함께 읽지 않으므로 묶음마다 findAllWithOrderLineItemsByIdIn 으로 채운다.
+public class OrderExportRepositoryImpl implements OrderExportRepository {
+    private static final int FETCH_SIZE = 500;
+
+    private final EntityManager entityManager;
+
+    public OrderExportRepositoryImpl(EntityManager entityManager) {
+        this.entityManager = entityManager;
+    }
+
+    @Override
+    public Stream<Order> streamAll(OrderStatus orderStatus, LocalDateTime orderedTimeFrom, LocalDateTime orderedTimeTo) {
+        final List<String> conditions = new ArrayList<>();
+        if (Objects.nonNull(orderStatus)) {
+            conditions.add("o.orderStatus = :orderStatus");
+        }
+        if (Objects.nonNull(orderedTimeFrom)) {
+            conditions.add("o.orderedTime >= :orderedTimeFrom");
+        }
+        if (Objects.nonNull(orderedTimeTo)) {
+            conditions.add("o.orderedTime < :orderedTimeTo");
+        }
+        final String where = conditions.isEmpty() ? "" : " where " + String.join(" and ", conditions);
+        final TypedQuery<Order> query = entityManager.createQuery(
+                "select o from Order o" + where + " order by o.orderedTime asc, o.id asc", Order.class
+        );
+        if (Objects.nonNull(orderStatus)) {
+            query.setParameter("orderStatus", orderStatus);
+        }
+        if (Objects.nonNull(orderedTimeFrom)) {
+            query.setParameter("orderedTimeFrom", orderedTimeFrom);
+        }
+        if (Objects.nonNull(orderedTimeTo)) {
+            query.setParameter("orderedTimeTo", orderedTimeTo);
+        }
+        return query.setHint(QueryHints.HINT_FETCH_SIZE, FETCH_SIZE)
+                    .setHint(QueryHints.HINT_READONLY, true)
+                    .getResultStream();
+    }
+}
@@ -0,0 +1,103 @@
+package kitchenpos.order.domain;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+import javax.persistence.PostLoad;
+import javax.persistence.PostPersist;
+import javax.persistence.Transient;
+
+import org.springframework.data.domain.Persistable;
+
+@Entity
+public class OrderIdempotencyKey implements Persistable<String> {
+    public static final int MAX_LENGTH = 255;
+
+    @Id
+    private String idempotencyKey;
+
+    private Long orderId;
+
+    private String requestHash;
+
+    private LocalDateTime createdAt;
+
+    // 키를 직접 정하므로 저장할 때 같은 키가 있는지 먼저 조회하지 않도록 새 엔티티임을 따로 기억한다.
+    @Transient
+    private boolean isNew = true;
+
+    public OrderIdempotencyKey() {
+    }
+
+    public OrderIdempotencyKey(String idempotencyKey, Long orderId, String requestHash) {
+        this(idempotencyKey, orderId, requestHash, LocalDateTime.now());
+    }
+
+    public OrderIdempotencyKey(String idempotencyKey, Long orderId, String requestHash, LocalDateTime createdAt) {
+        this.idempotencyKey = idempotencyKey;
+        this.orderId = orderId;
+        this.requestHash = requestHash;
+        this.createdAt = createdAt;
+    }
+
+    public static void validate(String idempotencyKey) {
+        if (idempotencyKey == null || idempotencyKey.trim().isEmpty() || idempotencyKey.length() > MAX_LENGTH) {
+            throw new IllegalArgumentException("멱등 키는 1자 이상 " + MAX_LENGTH + "자 이하여야 합니다.");
+        }
+    }
+
+    // 해시가 없는 키는 요청 해시를 저장하기 전에 등록한 키이므로 비교하지 않는다.
+    public static void validateSameRequest(String requestHash, String retriedRequestHash) {
+        if (requestHash != null && !requestHash.equals(retriedRequestHash)) {
+            throw new IllegalArgumentException("같은 멱등 키로 다른 주문을 요청할 수 없습니다.");
+        }
+    }
+
+    public void validateSameRequest(String retriedRequestHash) {
+        validateSameRequest(requestHash, retriedRequestHash);
+    }
+
+    public boolean isExpired(LocalDateTime now, Duration ttl) {
+        return !createdAt.plus(ttl).isAfter(now);
+    }
+
+    // 보관 기간이 지난 키로 다시 주문하면 새 주문을 가리키도록 갱신한다.
+    public void renew(Long orderId, String requestHash) {
+        this.orderId = orderId;
+        this.requestHash = requestHash;
+        this.createdAt = LocalDateTime.now();
+    }
+
+    @PostLoad
+    @PostPersist
+    void markNotNew() {
+        this.isNew = false;
+    }
+
+    @Override
+    public String getId() {
+        return idempotencyKey;
+    }
+
+    @Override
+    public boolean isNew() {
+        return isNew;
+    }
+
+    public String getIdempotencyKey() {
+        return idempotencyKey;
+    }
+
+    public Long getOrderId() {
+        return orderId;
+    }
+
+    public String getRequestHash() {
+        return requestHash;
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+}
@@ -0,0 +1,21 @@
+package kitchenpos.order.domain;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+import javax.persistence.LockModeType;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+public interface OrderIdempotencyKeyRepository extends JpaRepository<OrderIdempotencyKey, String> {
+    // 보관 기간이 지난 키를 동시에 갱신해 주문이 둘 등록되지 않도록 행을 잠그고 읽는다.
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    Optional<OrderIdempotencyKey> findForUpdateByIdempotencyKey(String idempotencyKey);
+
+    @Modifying(clearAutomatically = true)
+    @Query("delete from OrderIdempotencyKey k where k.createdAt <= :createdAt")
+    int deleteAllCreatedAtOrBefore(@Param("createdAt") LocalDateTime createdAt);
+}
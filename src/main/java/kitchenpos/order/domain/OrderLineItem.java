@@ -2,10 +2,13 @@ package kitchenpos.order.domain;
 
 import javax.persistence.*;
 
+import kitchenpos.id.ConfigurableIdGenerator;
+import kitchenpos.money.Money;
+
 @Entity
 public class OrderLineItem {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(generator = ConfigurableIdGenerator.NAME)
     private Long seq;
 
     @ManyToOne(fetch = FetchType.LAZY)
@@ -14,30 +17,32 @@ public class OrderLineItem {
 
     private Long menuId;
 
+    private String menuName;
+
+    private Money menuPrice;
+
     private long quantity;
 
     public OrderLineItem() {
     }
 
-    public OrderLineItem(Long menuId, long quantity) {
-        this(null, null, menuId, quantity);
+    public OrderLineItem(Long menuId, String menuName, Money menuPrice, long quantity) {
+        this(null, null, menuId, menuName, menuPrice, quantity);
     }
 
-    public OrderLineItem(Order order, Long menuId, long quantity) {
-        this(null, order, menuId, quantity);
+    public OrderLineItem(Order order, Long menuId, String menuName, Money menuPrice, long quantity) {
+        this(null, order, menuId, menuName, menuPrice, quantity);
     }
 
-    public OrderLineItem(Long seq, Order order, Long menuId, long quantity) {
+    public OrderLineItem(Long seq, Order order, Long menuId, String menuName, Money menuPrice, long quantity) {
         this.seq = seq;
         this.order = order;
         this.menuId = menuId;
+        this.menuName = menuName;
+        this.menuPrice = menuPrice;
         this.quantity = quantity;
     }
 
-    public void changeMenuId(Long menuId) {
-        this.menuId = menuId;
-    }
-
     public Long getSeq() {
         return seq;
     }
@@ -50,6 +55,14 @@ public class OrderLineItem {
         return menuId;
     }
 
+    public String getMenuName() {
+        return menuName;
+    }
+
+    public Money getMenuPrice() {
+        return menuPrice;
+    }
+
     public long getQuantity() {
         return quantity;
     }
@@ -1,9 +0,0 @@
-package kitchenpos.order.domain;
-
-import java.util.List;
-
-import org.springframework.data.jpa.repository.JpaRepository;
-
-public interface OrderLineItemRepository extends JpaRepository<OrderLineItem, Long> {
-    List<OrderLineItem> findAllByMenuId(Long menuId);
-}
@@ -0,0 +1,40 @@
+package kitchenpos.order.domain;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import kitchenpos.menu.domain.MenuNamePriceView;
+
+public class OrderMenus {
+    private final Map<Long, MenuNamePriceView> menus;
+
+    public OrderMenus(Map<Long, MenuNamePriceView> menus) {
+        this.menus = menus;
+    }
+
+    public static OrderMenus from(Collection<MenuNamePriceView> menus) {
+        return new OrderMenus(menus.stream()
+                                   .collect(Collectors.toMap(MenuNamePriceView::getId, Function.identity())));
+    }
+
+    public static OrderMenus empty() {
+        return new OrderMenus(Collections.emptyMap());
+    }
+
+    public Set<Long> getIds() {
+        return menus.keySet();
+    }
+
+    public OrderLineItem toOrderLineItem(Order order, Long menuId, long quantity) {
+        final MenuNamePriceView menu = menus.get(menuId);
+        if (Objects.isNull(menu)) {
+            throw new IllegalArgumentException("등록되지 않은 메뉴는 주문할 수 없습니다. [" + menuId + "]");
+        }
+        return new OrderLineItem(order, menuId, menu.getName(), menu.getPrice(), quantity);
+    }
+}
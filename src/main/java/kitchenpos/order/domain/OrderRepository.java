@@ -1,9 +1,28 @@
 package kitchenpos.order.domain;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
-public interface OrderRepository extends JpaRepository<Order, Long> {
+public interface OrderRepository extends JpaRepository<Order, Long>, OrderExportRepository, OrderSearchRepository {
     List<Order> findAllByOrderTableId(Long id);
+
+    boolean existsByOrderTableIdAndOrderStatusIn(Long orderTableId, Collection<OrderStatus> orderStatuses);
+
+    boolean existsByOrderTableIdInAndOrderStatusIn(Collection<Long> orderTableIds, Collection<OrderStatus> orderStatuses);
+
+    @Query("select distinct o from Order o " +
+            "left join fetch o.orderLineItems.orderLineItems " +
+            "where o.id in :ids " +
+            "order by o.id asc")
+    List<Order> findAllWithOrderLineItemsByIdIn(@Param("ids") List<Long> ids);
+
+    @Query("select distinct o from Order o " +
+            "left join fetch o.orderLineItems.orderLineItems " +
+            "where o.id = :id")
+    Optional<Order> findWithOrderLineItemsById(@Param("id") Long id);
 }
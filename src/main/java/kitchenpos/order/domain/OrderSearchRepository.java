@@ -0,0 +1,17 @@
+package kitchenpos.order.domain;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.springframework.data.domain.Pageable;
+
+public interface OrderSearchRepository {
+    List<Long> findIdsAfter(
+            Long cursor,
+            OrderStatus orderStatus,
+            Long orderTableId,
+            LocalDateTime orderedTimeFrom,
+            LocalDateTime orderedTimeTo,
+            Pageable pageable
+    );
+}
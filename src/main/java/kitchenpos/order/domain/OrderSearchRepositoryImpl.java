@@ -0,0 +1,63 @@
+package kitchenpos.order.domain;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import javax.persistence.EntityManager;
+import javax.persistence.TypedQuery;
+
+import org.springframework.data.domain.Pageable;
+
+// 주어진 조건만 where 절에 넣어, 테이블이나 상태로 거르면 (조건, id) 인덱스에서 커서 다음 한 페이지만 읽는다.
+public class OrderSearchRepositoryImpl implements OrderSearchRepository {
+    private final EntityManager entityManager;
+
+    public OrderSearchRepositoryImpl(EntityManager entityManager) {
+        this.entityManager = entityManager;
+    }
+
+    @Override
+    public List<Long> findIdsAfter(
+            Long cursor,
+            OrderStatus orderStatus,
+            Long orderTableId,
+            LocalDateTime orderedTimeFrom,
+            LocalDateTime orderedTimeTo,
+            Pageable pageable
+    ) {
+        final List<String> conditions = new ArrayList<>();
+        conditions.add("o.id > :cursor");
+        if (Objects.nonNull(orderStatus)) {
+            conditions.add("o.orderStatus = :orderStatus");
+        }
+        if (Objects.nonNull(orderTableId)) {
+            conditions.add("o.orderTableId = :orderTableId");
+        }
+        if (Objects.nonNull(orderedTimeFrom)) {
+            conditions.add("o.orderedTime >= :orderedTimeFrom");
+        }
+        if (Objects.nonNull(orderedTimeTo)) {
+            conditions.add("o.orderedTime < :orderedTimeTo");
+        }
+        final TypedQuery<Long> query = entityManager.createQuery(
+                "select o.id from Order o where " + String.join(" and ", conditions) + " order by o.id asc", Long.class
+        );
+        query.setParameter("cursor", cursor);
+        if (Objects.nonNull(orderStatus)) {
+            query.setParameter("orderStatus", orderStatus);
+        }
+        if (Objects.nonNull(orderTableId)) {
+            query.setParameter("orderTableId", orderTableId);
+        }
+        if (Objects.nonNull(orderedTimeFrom)) {
+            query.setParameter("orderedTimeFrom", orderedTimeFrom);
+        }
+        if (Objects.nonNull(orderedTimeTo)) {
+            query.setParameter("orderedTimeTo", orderedTimeTo);
+        }
+        return query.setFirstResult((int) pageable.getOffset())
+                    .setMaxResults(pageable.getPageSize())
+                    .getResultList();
+    }
+}
@@ -1,5 +1,7 @@
 package kitchenpos.order.domain;
 
+import java.util.Arrays;
+import java.util.List;
 import java.util.Objects;
 
 public enum OrderStatus {
@@ -8,4 +10,8 @@ public enum OrderStatus {
     public static boolean isCompletion(OrderStatus orderStatus) {
         return Objects.equals(OrderStatus.COMPLETION, orderStatus);
     }
+
+    public static List<OrderStatus> inProgress() {
+        return Arrays.asList(COOKING, MEAL);
+    }
 }
@@ -1,9 +1,18 @@
 package kitchenpos.order.domain;
 
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
+
 import org.springframework.stereotype.Component;
 
 import kitchenpos.menu.domain.MenuRepository;
-import kitchenpos.table.domain.OrderTable;
+import kitchenpos.table.domain.OrderTableEmptyView;
 import kitchenpos.table.domain.OrderTableRepository;
 
 @Component
@@ -20,17 +29,41 @@ public class OrderValidator {
     }
 
     public void validateTable(Long tableId) {
-        final OrderTable orderTable = orderTableRepository.findById(tableId)
-            .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 테이블은 주문할 수 없습니다."));
+        validateTable(orderTableRepository.findEmptyById(tableId));
+    }
+
+    public OrderMenus validateMenus(List<Long> menuIds) {
+        final Set<Long> requestedMenuIds = new LinkedHashSet<>(menuIds);
+        if (requestedMenuIds.isEmpty()) {
+            return OrderMenus.empty();
+        }
+        final OrderMenus orderMenus = OrderMenus.from(menuRepository.findNamePriceViewsByIdIn(requestedMenuIds));
+        validateMenus(requestedMenuIds, orderMenus.getIds());
+        return orderMenus;
+    }
+
+    public OrderBatchValidator prepare(Collection<Long> tableIds, Collection<Long> menuIds) {
+        final Map<Long, Boolean> emptyByTableId = orderTableRepository.findEmptyViewsByIdIn(new HashSet<>(tableIds))
+                                                                      .stream()
+                                                                      .collect(Collectors.toMap(OrderTableEmptyView::getId, OrderTableEmptyView::isEmpty));
+        final OrderMenus orderMenus = OrderMenus.from(menuRepository.findNamePriceViewsByIdIn(new HashSet<>(menuIds)));
+        return new OrderBatchValidator(emptyByTableId, orderMenus);
+    }
+
+    static void validateTable(Optional<Boolean> empty) {
+        final boolean isEmpty = empty.orElseThrow(() -> new IllegalArgumentException("존재하지 않는 테이블은 주문할 수 없습니다."));
 
-        if (orderTable.isEmpty()) {
+        if (isEmpty) {
             throw new IllegalArgumentException("빈 테이블은 주문할 수 없습니다.");
         }
     }
 
-    public void validateMenu(Long menuId) {
-        if (!menuRepository.existsById(menuId)) {
-            throw new IllegalArgumentException("등록되지 않은 메뉴는 주문할 수 없습니다.");
+    static void validateMenus(Collection<Long> menuIds, Set<Long> registeredMenuIds) {
+        final Set<Long> notRegisteredMenuIds = menuIds.stream()
+                                                      .filter(menuId -> !registeredMenuIds.contains(menuId))
+                                                      .collect(Collectors.toCollection(LinkedHashSet::new));
+        if (!notRegisteredMenuIds.isEmpty()) {
+            throw new IllegalArgumentException("등록되지 않은 메뉴는 주문할 수 없습니다. " + notRegisteredMenuIds);
         }
     }
 }
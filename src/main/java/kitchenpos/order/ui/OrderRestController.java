@@ -1,37 +1,115 @@
 package kitchenpos.order.ui;
 
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
 import java.net.URI;
-import java.util.List;
+import java.time.LocalDateTime;
+import javax.servlet.http.HttpServletResponse;
 
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.format.annotation.DateTimeFormat.ISO;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import kitchenpos.order.application.IdempotentOrderService;
 import kitchenpos.order.application.OrderService;
+import kitchenpos.order.domain.OrderStatus;
 import kitchenpos.order.ui.request.ChangeOrderStatusRequest;
 import kitchenpos.order.ui.request.CreateOrderRequest;
+import kitchenpos.order.ui.request.CreateOrdersRequest;
+import kitchenpos.order.ui.request.OrderExportRequest;
+import kitchenpos.order.ui.request.OrderSearchRequest;
 import kitchenpos.order.ui.response.CreateOrderResponse;
+import kitchenpos.order.ui.response.CreateOrdersResponse;
+import kitchenpos.order.ui.response.OrderPageResponse;
 import kitchenpos.order.ui.response.OrderResponse;
 
 @RestController
 public class OrderRestController {
+    private static final String APPLICATION_NDJSON_VALUE = "application/x-ndjson";
+    private static final int LINE_SEPARATOR = '\n';
+    private static final String IDEMPOTENCY_KEY = "Idempotency-Key";
+
     private final OrderService orderService;
+    private final IdempotentOrderService idempotentOrderService;
+    private final ObjectWriter objectWriter;
 
-    public OrderRestController(final OrderService orderService) {
+    public OrderRestController(
+            final OrderService orderService,
+            final IdempotentOrderService idempotentOrderService,
+            final ObjectMapper objectMapper
+    ) {
         this.orderService = orderService;
+        this.idempotentOrderService = idempotentOrderService;
+        this.objectWriter = objectMapper.writer()
+                                        .without(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
     }
 
     @PostMapping("/api/orders")
-    public ResponseEntity<CreateOrderResponse> create(@RequestBody final CreateOrderRequest request) {
-        final CreateOrderResponse created = orderService.create(request);
+    public ResponseEntity<CreateOrderResponse> create(
+            @RequestHeader(value = IDEMPOTENCY_KEY, required = false) final String idempotencyKey,
+            @RequestBody final CreateOrderRequest request
+    ) {
+        final CreateOrderResponse created = createOrder(idempotencyKey, request);
         final URI uri = URI.create("/api/orders/" + created.getId());
         return ResponseEntity.created(uri)
                              .body(created);
     }
 
+    private CreateOrderResponse createOrder(String idempotencyKey, CreateOrderRequest request) {
+        if (idempotencyKey == null) {
+            return orderService.create(request);
+        }
+        return idempotentOrderService.create(idempotencyKey, request);
+    }
+
+    @PostMapping("/api/orders/batch")
+    public ResponseEntity<CreateOrdersResponse> createAll(@RequestBody final CreateOrdersRequest request) {
+        return ResponseEntity.ok(orderService.createAll(request));
+    }
+
     @GetMapping("/api/orders")
-    public ResponseEntity<List<OrderResponse>> list() {
+    public ResponseEntity<OrderPageResponse> list(
+            @RequestParam(required = false) final Long cursor,
+            @RequestParam(required = false) final Integer size,
+            @RequestParam(required = false) final OrderStatus orderStatus,
+            @RequestParam(required = false) final Long orderTableId,
+            @RequestParam(required = false) @DateTimeFormat(iso = ISO.DATE_TIME) final LocalDateTime orderedTimeFrom,
+            @RequestParam(required = false) @DateTimeFormat(iso = ISO.DATE_TIME) final LocalDateTime orderedTimeTo
+    ) {
+        final OrderSearchRequest request = new OrderSearchRequest(
+                cursor, size, orderStatus, orderTableId, orderedTimeFrom, orderedTimeTo
+        );
         return ResponseEntity.ok()
-                             .body(orderService.list());
+                             .body(orderService.list(request));
+    }
+
+    // 주문을 읽는 대로 한 줄에 하나씩 JSON 으로 써서, 전체 목록을 메모리에 만들지 않는다.
+    @GetMapping(value = "/api/orders/export", produces = APPLICATION_NDJSON_VALUE)
+    public void export(
+            @RequestParam(required = false) final OrderStatus orderStatus,
+            @RequestParam(required = false) @DateTimeFormat(iso = ISO.DATE_TIME) final LocalDateTime orderedTimeFrom,
+            @RequestParam(required = false) @DateTimeFormat(iso = ISO.DATE_TIME) final LocalDateTime orderedTimeTo,
+            final HttpServletResponse response
+    ) throws IOException {
+        final OrderExportRequest request = new OrderExportRequest(orderStatus, orderedTimeFrom, orderedTimeTo);
+        response.setContentType(APPLICATION_NDJSON_VALUE);
+        response.setCharacterEncoding("UTF-8");
+        final OutputStream outputStream = response.getOutputStream();
+        orderService.export(request, order -> {
+            try {
+                objectWriter.writeValue(outputStream, order);
+                outputStream.write(LINE_SEPARATOR);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+        outputStream.flush();
     }
 
     @PutMapping("/api/orders/{orderId}/order-status")
@@ -0,0 +1,18 @@
+package kitchenpos.order.ui.request;
+
+import java.util.List;
+
+public class CreateOrdersRequest {
+    private List<CreateOrderRequest> orders;
+
+    public CreateOrdersRequest() {
+    }
+
+    public CreateOrdersRequest(List<CreateOrderRequest> orders) {
+        this.orders = orders;
+    }
+
+    public List<CreateOrderRequest> getOrders() {
+        return orders;
+    }
+}
@@ -0,0 +1,32 @@
+package kitchenpos.order.ui.request;
+
+import java.time.LocalDateTime;
+
+import kitchenpos.order.domain.OrderStatus;
+
+public class OrderExportRequest {
+    private OrderStatus orderStatus;
+    private LocalDateTime orderedTimeFrom;
+    private LocalDateTime orderedTimeTo;
+
+    public OrderExportRequest() {
+    }
+
+    public OrderExportRequest(OrderStatus orderStatus, LocalDateTime orderedTimeFrom, LocalDateTime orderedTimeTo) {
+        this.orderStatus = orderStatus;
+        this.orderedTimeFrom = orderedTimeFrom;
+        this.orderedTimeTo = orderedTimeTo;
+    }
+
+    public OrderStatus getOrderStatus() {
+        return orderStatus;
+    }
+
+    public LocalDateTime getOrderedTimeFrom() {
+        return orderedTimeFrom;
+    }
+
+    public LocalDateTime getOrderedTimeTo() {
+        return orderedTimeTo;
+    }
+}
@@ -0,0 +1,67 @@
+package kitchenpos.order.ui.request;
+
+import java.time.LocalDateTime;
+import java.util.Objects;
+
+import kitchenpos.order.domain.OrderStatus;
+
+public class OrderSearchRequest {
+    private static final long FIRST_CURSOR = 0L;
+    private static final int DEFAULT_SIZE = 20;
+
+    private Long cursor;
+    private Integer size;
+    private OrderStatus orderStatus;
+    private Long orderTableId;
+    private LocalDateTime orderedTimeFrom;
+    private LocalDateTime orderedTimeTo;
+
+    public OrderSearchRequest() {
+    }
+
+    public OrderSearchRequest(
+            Long cursor,
+            Integer size,
+            OrderStatus orderStatus,
+            Long orderTableId,
+            LocalDateTime orderedTimeFrom,
+            LocalDateTime orderedTimeTo
+    ) {
+        this.cursor = cursor;
+        this.size = size;
+        this.orderStatus = orderStatus;
+        this.orderTableId = orderTableId;
+        this.orderedTimeFrom = orderedTimeFrom;
+        this.orderedTimeTo = orderedTimeTo;
+    }
+
+    public Long getCursor() {
+        if (Objects.isNull(cursor)) {
+            return FIRST_CURSOR;
+        }
+        return cursor;
+    }
+
+    public int getSize() {
+        if (Objects.isNull(size)) {
+            return DEFAULT_SIZE;
+        }
+        return size;
+    }
+
+    public OrderStatus getOrderStatus() {
+        return orderStatus;
+    }
+
+    public Long getOrderTableId() {
+        return orderTableId;
+    }
+
+    public LocalDateTime getOrderedTimeFrom() {
+        return orderedTimeFrom;
+    }
+
+    public LocalDateTime getOrderedTimeTo() {
+        return orderedTimeTo;
+    }
+}
@@ -0,0 +1,39 @@
+package kitchenpos.order.ui.response;
+
+public class CreateOrderResultResponse {
+    private int index;
+    private boolean success;
+    private CreateOrderResponse order;
+    private String message;
+
+    public CreateOrderResultResponse(int index, boolean success, CreateOrderResponse order, String message) {
+        this.index = index;
+        this.success = success;
+        this.order = order;
+        this.message = message;
+    }
+
+    public static CreateOrderResultResponse success(int index, CreateOrderResponse order) {
+        return new CreateOrderResultResponse(index, true, order, null);
+    }
+
+    public static CreateOrderResultResponse failure(int index, String message) {
+        return new CreateOrderResultResponse(index, false, null, message);
+    }
+
+    public int getIndex() {
+        return index;
+    }
+
+    public boolean isSuccess() {
+        return success;
+    }
+
+    public CreateOrderResponse getOrder() {
+        return order;
+    }
+
+    public String getMessage() {
+        return message;
+    }
+}
@@ -0,0 +1,15 @@
+package kitchenpos.order.ui.response;
+
+import java.util.List;
+
+public class CreateOrdersResponse {
+    private List<CreateOrderResultResponse> results;
+
+    public CreateOrdersResponse(List<CreateOrderResultResponse> results) {
+        this.results = results;
+    }
+
+    public List<CreateOrderResultResponse> getResults() {
+        return results;
+    }
+}
@@ -1,15 +1,21 @@
 package kitchenpos.order.ui.response;
 
+import java.math.BigDecimal;
+
 import kitchenpos.order.domain.OrderLineItem;
 
 public class OrderLineItemResponse {
     private Long seq;
     private Long menuId;
+    private String menuName;
+    private BigDecimal menuPrice;
     private long quantity;
 
-    public OrderLineItemResponse(Long seq, Long menuId, long quantity) {
+    public OrderLineItemResponse(Long seq, Long menuId, String menuName, BigDecimal menuPrice, long quantity) {
         this.seq = seq;
         this.menuId = menuId;
+        this.menuName = menuName;
+        this.menuPrice = menuPrice;
         this.quantity = quantity;
     }
 
@@ -17,6 +23,8 @@ public class OrderLineItemResponse {
         return new OrderLineItemResponse(
                 orderLineItem.getSeq(),
                 orderLineItem.getMenuId(),
+                orderLineItem.getMenuName(),
+                orderLineItem.getMenuPrice().toBigDecimal(),
                 orderLineItem.getQuantity()
         );
     }
@@ -29,6 +37,14 @@ public class OrderLineItemResponse {
         return menuId;
     }
 
+    public String getMenuName() {
+        return menuName;
+    }
+
+    public BigDecimal getMenuPrice() {
+        return menuPrice;
+    }
+
     public long getQuantity() {
         return quantity;
     }
@@ -0,0 +1,44 @@
+package kitchenpos.order.ui.response;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+import kitchenpos.order.domain.Order;
+
+public class OrderPageResponse {
+    private List<OrderResponse> orders;
+    private Long nextCursor;
+    private boolean hasNext;
+
+    public OrderPageResponse(List<OrderResponse> orders, Long nextCursor, boolean hasNext) {
+        this.orders = orders;
+        this.nextCursor = nextCursor;
+        this.hasNext = hasNext;
+    }
+
+    public static OrderPageResponse of(List<Order> orders, boolean hasNext) {
+        final List<OrderResponse> page = orders.stream()
+                                               .map(OrderResponse::from)
+                                               .collect(Collectors.toList());
+        return new OrderPageResponse(page, nextCursor(page, hasNext), hasNext);
+    }
+
+    private static Long nextCursor(List<OrderResponse> page, boolean hasNext) {
+        if (!hasNext) {
+            return null;
+        }
+        return page.get(page.size() - 1).getId();
+    }
+
+    public List<OrderResponse> getOrders() {
+        return orders;
+    }
+
+    public Long getNextCursor() {
+        return nextCursor;
+    }
+
+    public boolean isHasNext() {
+        return hasNext;
+    }
+}
@@ -3,10 +3,12 @@ package kitchenpos.product.application;
 import java.util.List;
 import java.util.stream.Collectors;
 
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import kitchenpos.product.domain.Product;
+import kitchenpos.product.domain.ProductChangedEvent;
 import kitchenpos.product.domain.ProductRepository;
 import kitchenpos.product.ui.request.CreateProductRequest;
 import kitchenpos.product.ui.response.ProductResponse;
@@ -14,15 +16,18 @@ import kitchenpos.product.ui.response.ProductResponse;
 @Service
 public class ProductService {
     private final ProductRepository productRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
-    public ProductService(final ProductRepository productRepository) {
+    public ProductService(final ProductRepository productRepository, final ApplicationEventPublisher eventPublisher) {
         this.productRepository = productRepository;
+        this.eventPublisher = eventPublisher;
     }
 
     @Transactional
     public ProductResponse create(final CreateProductRequest request) {
-        final Product product = request.toEntity();
-        return ProductResponse.from(productRepository.save(product));
+        final Product product = productRepository.save(request.toEntity());
+        eventPublisher.publishEvent(new ProductChangedEvent(product.getId()));
+        return ProductResponse.from(product);
     }
 
     @Transactional(readOnly = true)
@@ -4,24 +4,31 @@ import java.math.BigDecimal;
 import java.util.Objects;
 import javax.persistence.Entity;
 import javax.persistence.GeneratedValue;
-import javax.persistence.GenerationType;
 import javax.persistence.Id;
 
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+
+import kitchenpos.cache.CacheRegions;
+import kitchenpos.id.ConfigurableIdGenerator;
+import kitchenpos.money.Money;
+
 @Entity
-public class Product {
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = CacheRegions.PRODUCT)
+public class Product implements ProductPriceView {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(generator = ConfigurableIdGenerator.NAME)
     private Long id;
 
     private String name;
 
-    private BigDecimal price;
+    private Money price;
 
     public Product() {
     }
 
     public Product(Long id, String name, int price) {
-        this(id, name, BigDecimal.valueOf(price));
+        this(id, name, Money.of(price));
     }
 
     public Product(String name, BigDecimal price) {
@@ -29,20 +36,27 @@ public class Product {
     }
 
     public Product(Long id, String name, BigDecimal price) {
+        this(id, name, toMoney(price));
+    }
+
+    public Product(Long id, String name, Money price) {
         validatesPrice(price);
         this.id = id;
         this.name = name;
         this.price = price;
     }
 
-    private void validatesPrice(BigDecimal price) {
-        if (Objects.isNull(price) || price.compareTo(BigDecimal.ZERO) < 0) {
-            throw new IllegalArgumentException("상품의 가격은 비어있을 수 없고 0 이상이어야 합니다.");
+    private static Money toMoney(BigDecimal price) {
+        if (Objects.isNull(price)) {
+            return null;
         }
+        return Money.of(price);
     }
 
-    public BigDecimal calculatePrice(long quantity) {
-        return price.multiply(BigDecimal.valueOf(quantity));
+    private void validatesPrice(Money price) {
+        if (Objects.isNull(price) || price.isNegative()) {
+            throw new IllegalArgumentException("상품의 가격은 비어있을 수 없고 0 이상이어야 합니다.");
+        }
     }
 
     public Long getId() {
@@ -53,7 +67,7 @@ public class Product {
         return name;
     }
 
-    public BigDecimal getPrice() {
+    public Money getPrice() {
         return price;
     }
 }
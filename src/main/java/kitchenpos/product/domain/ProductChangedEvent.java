@@ -0,0 +1,13 @@
+package kitchenpos.product.domain;
+
+public class ProductChangedEvent {
+    private Long productId;
+
+    public ProductChangedEvent(Long productId) {
+        this.productId = productId;
+    }
+
+    public Long getProductId() {
+        return productId;
+    }
+}
@@ -0,0 +1,9 @@
+package kitchenpos.product.domain;
+
+import kitchenpos.money.Money;
+
+public interface ProductPriceView {
+    Long getId();
+
+    Money getPrice();
+}
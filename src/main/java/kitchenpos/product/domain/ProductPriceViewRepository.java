@@ -0,0 +1,8 @@
+package kitchenpos.product.domain;
+
+import java.util.Collection;
+import java.util.List;
+
+public interface ProductPriceViewRepository {
+    List<ProductPriceView> findPriceViewsByIdIn(Collection<Long> ids);
+}
@@ -0,0 +1,21 @@
+package kitchenpos.product.domain;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import javax.persistence.EntityManager;
+
+import kitchenpos.cache.EntityLoader;
+
+public class ProductPriceViewRepositoryImpl implements ProductPriceViewRepository {
+    private final EntityManager entityManager;
+
+    public ProductPriceViewRepositoryImpl(EntityManager entityManager) {
+        this.entityManager = entityManager;
+    }
+
+    @Override
+    public List<ProductPriceView> findPriceViewsByIdIn(Collection<Long> ids) {
+        return Collections.unmodifiableList(EntityLoader.findAllById(entityManager, Product.class, ids));
+    }
+}
@@ -2,5 +2,5 @@ package kitchenpos.product.domain;
 
 import org.springframework.data.jpa.repository.JpaRepository;
 
-public interface ProductRepository extends JpaRepository<Product, Long> {
+public interface ProductRepository extends JpaRepository<Product, Long>, ProductPriceViewRepository {
 }
@@ -0,0 +1,37 @@
+package kitchenpos.sqllog;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+// 최근 실행된 쿼리와 바인딩 파라미터를 정해진 개수만큼만 보관한다. 가득 차면 가장 오래된 것부터 덮어쓴다.
+public class SqlBindBuffer {
+    private final AtomicReferenceArray<SqlExecution> executions;
+    private final AtomicLong sequence = new AtomicLong();
+
+    public SqlBindBuffer(int size) {
+        if (size < 1) {
+            throw new IllegalArgumentException("바인딩 파라미터 버퍼 크기는 1 이상이어야 합니다.");
+        }
+        this.executions = new AtomicReferenceArray<>(size);
+    }
+
+    public void add(SqlExecution execution) {
+        long index = sequence.getAndIncrement();
+        executions.set((int) (index % executions.length()), execution);
+    }
+
+    public List<SqlExecution> recent() {
+        long last = sequence.get();
+        long first = Math.max(0, last - executions.length());
+        List<SqlExecution> recent = new ArrayList<>();
+        for (long index = last - 1; index >= first; index--) {
+            SqlExecution execution = executions.get((int) (index % executions.length()));
+            if (execution != null) {
+                recent.add(execution);
+            }
+        }
+        return recent;
+    }
+}
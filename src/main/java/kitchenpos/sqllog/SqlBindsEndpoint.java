@@ -0,0 +1,21 @@
+package kitchenpos.sqllog;
+
+import java.util.List;
+
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.jmx.annotation.JmxEndpoint;
+
+// 바인딩 파라미터에는 개인정보가 들어갈 수 있으므로 HTTP 로는 열지 않고 JMX 로만 노출한다.
+@JmxEndpoint(id = "sqlbinds")
+public class SqlBindsEndpoint {
+    private final SqlBindBuffer bindBuffer;
+
+    public SqlBindsEndpoint(SqlBindBuffer bindBuffer) {
+        this.bindBuffer = bindBuffer;
+    }
+
+    @ReadOperation
+    public List<SqlExecution> recent() {
+        return bindBuffer.recent();
+    }
+}
@@ -0,0 +1,44 @@
+package kitchenpos.sqllog;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+public class SqlExecution {
+    private final LocalDateTime executedAt;
+    private final String sql;
+    private final List<List<Object>> parameters;
+    private final long elapsedNanos;
+
+    public SqlExecution(LocalDateTime executedAt, String sql, List<List<Object>> parameters, long elapsedNanos) {
+        this.executedAt = executedAt;
+        this.sql = sql;
+        this.parameters = parameters;
+        this.elapsedNanos = elapsedNanos;
+    }
+
+    public LocalDateTime getExecutedAt() {
+        return executedAt;
+    }
+
+    public String getSql() {
+        return sql;
+    }
+
+    public List<List<Object>> getParameters() {
+        return parameters;
+    }
+
+    public double getElapsedMillis() {
+        return TimeUnit.NANOSECONDS.toMicros(elapsedNanos) / 1000.0;
+    }
+
+    long getElapsedNanos() {
+        return elapsedNanos;
+    }
+
+    @Override
+    public String toString() {
+        return getElapsedMillis() + "ms " + sql + " " + parameters;
+    }
+}
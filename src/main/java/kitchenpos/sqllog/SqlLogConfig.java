@@ -0,0 +1,63 @@
+package kitchenpos.sqllog;
+
+import javax.sql.DataSource;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+@Configuration
+@ConditionalOnProperty(prefix = "kitchenpos.sql-log", name = "enabled", havingValue = "true")
+@EnableConfigurationProperties(SqlLogProperties.class)
+public class SqlLogConfig {
+
+    @Bean
+    public SqlBindBuffer sqlBindBuffer(SqlLogProperties properties) {
+        return new SqlBindBuffer(properties.getBindBufferSize());
+    }
+
+    @Bean
+    public SqlLogger sqlLogger(SqlLogProperties properties, SqlBindBuffer sqlBindBuffer, MeterRegistry meterRegistry) {
+        validate(properties);
+        return new SqlLogger(properties, sqlBindBuffer, meterRegistry);
+    }
+
+    @Bean
+    public SqlBindsEndpoint sqlBindsEndpoint(SqlBindBuffer sqlBindBuffer) {
+        return new SqlBindsEndpoint(sqlBindBuffer);
+    }
+
+    @Bean
+    public static BeanPostProcessor sqlLoggingDataSourcePostProcessor(ObjectProvider<SqlLogger> sqlLogger) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (bean instanceof DataSource && isPhysical(bean)) {
+                    return new SqlLoggingDataSource((DataSource) bean, sqlLogger.getObject());
+                }
+                return bean;
+            }
+        };
+    }
+
+    // 라우팅이나 지연 커넥션 프록시까지 감싸면 같은 쿼리가 두 번 기록되므로 실제 커넥션 풀만 감싼다.
+    private static boolean isPhysical(Object dataSource) {
+        return !(dataSource instanceof DelegatingDataSource) && !(dataSource instanceof AbstractRoutingDataSource);
+    }
+
+    private void validate(SqlLogProperties properties) {
+        if (properties.getSampleRate() < 0 || properties.getSampleRate() > 1) {
+            throw new IllegalArgumentException("쿼리 로그 표본 비율은 0 이상 1 이하여야 합니다.");
+        }
+        if (properties.getSlowThresholdMillis() < 0) {
+            throw new IllegalArgumentException("느린 쿼리 기준 시간은 0 이상이어야 합니다.");
+        }
+    }
+}
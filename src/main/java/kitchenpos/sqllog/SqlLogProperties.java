@@ -0,0 +1,43 @@
+package kitchenpos.sqllog;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@ConfigurationProperties("kitchenpos.sql-log")
+public class SqlLogProperties {
+    private boolean enabled = false;
+    private double sampleRate = 0.01;
+    private long slowThresholdMillis = 200;
+    private int bindBufferSize = 1000;
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public double getSampleRate() {
+        return sampleRate;
+    }
+
+    public void setSampleRate(double sampleRate) {
+        this.sampleRate = sampleRate;
+    }
+
+    public long getSlowThresholdMillis() {
+        return slowThresholdMillis;
+    }
+
+    public void setSlowThresholdMillis(long slowThresholdMillis) {
+        this.slowThresholdMillis = slowThresholdMillis;
+    }
+
+    public int getBindBufferSize() {
+        return bindBufferSize;
+    }
+
+    public void setBindBufferSize(int bindBufferSize) {
+        this.bindBufferSize = bindBufferSize;
+    }
+}
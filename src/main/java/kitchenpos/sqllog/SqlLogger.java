@@ -0,0 +1,44 @@
+package kitchenpos.sqllog;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+
+// 모든 쿼리는 바인딩 파라미터 버퍼에 남기고, 로그는 느린 쿼리와 표본으로 뽑힌 쿼리만 쓴다.
+public class SqlLogger {
+    private static final Logger log = LoggerFactory.getLogger("kitchenpos.sql");
+
+    private final SqlBindBuffer bindBuffer;
+    private final double sampleRate;
+    private final long slowThresholdNanos;
+    private final Counter slowQueries;
+
+    public SqlLogger(SqlLogProperties properties, SqlBindBuffer bindBuffer, MeterRegistry meterRegistry) {
+        this.bindBuffer = bindBuffer;
+        this.sampleRate = properties.getSampleRate();
+        this.slowThresholdNanos = TimeUnit.MILLISECONDS.toNanos(properties.getSlowThresholdMillis());
+        this.slowQueries = Counter.builder("kitchenpos.sql.slow")
+                                  .description("느린 쿼리 기준 시간을 넘긴 쿼리 수")
+                                  .register(meterRegistry);
+    }
+
+    public void record(String sql, List<List<Object>> parameters, long elapsedNanos) {
+        SqlExecution execution = new SqlExecution(LocalDateTime.now(), sql, parameters, elapsedNanos);
+        bindBuffer.add(execution);
+        if (elapsedNanos >= slowThresholdNanos) {
+            slowQueries.increment();
+            log.warn("느린 쿼리 {}", execution);
+            return;
+        }
+        if (sampleRate > 0 && ThreadLocalRandom.current().nextDouble() < sampleRate) {
+            log.info("{}", execution);
+        }
+    }
+}
@@ -0,0 +1,140 @@
+package kitchenpos.sqllog;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.CallableStatement;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.temporal.TemporalAccessor;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Date;
+import java.util.List;
+import javax.sql.DataSource;
+
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+public class SqlLoggingDataSource extends DelegatingDataSource {
+    private final SqlLogger sqlLogger;
+
+    public SqlLoggingDataSource(DataSource targetDataSource, SqlLogger sqlLogger) {
+        super(targetDataSource);
+        this.sqlLogger = sqlLogger;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return proxy(Connection.class, new ConnectionHandler(super.getConnection()));
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return proxy(Connection.class, new ConnectionHandler(super.getConnection(username, password)));
+    }
+
+    private static <T> T proxy(Class<T> type, InvocationHandler handler) {
+        return type.cast(Proxy.newProxyInstance(SqlLoggingDataSource.class.getClassLoader(), new Class<?>[]{type}, handler));
+    }
+
+    private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getTargetException();
+        }
+    }
+
+    private class ConnectionHandler implements InvocationHandler {
+        private final Connection connection;
+
+        ConnectionHandler(Connection connection) {
+            this.connection = connection;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            Object result = SqlLoggingDataSource.invoke(connection, method, args);
+            switch (method.getName()) {
+                case "createStatement":
+                    return proxy(Statement.class, new StatementHandler((Statement) result, null));
+                case "prepareStatement":
+                    return proxy(PreparedStatement.class, new StatementHandler((Statement) result, (String) args[0]));
+                case "prepareCall":
+                    return proxy(CallableStatement.class, new StatementHandler((Statement) result, (String) args[0]));
+                default:
+                    return result;
+            }
+        }
+    }
+
+    private class StatementHandler implements InvocationHandler {
+        private final Statement statement;
+        private final String sql;
+        private final List<List<Object>> batch = new ArrayList<>();
+        private Object[] parameters = new Object[0];
+
+        StatementHandler(Statement statement, String sql) {
+            this.statement = statement;
+            this.sql = sql;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            String name = method.getName();
+            if (name.startsWith("execute")) {
+                return execute(method, args);
+            }
+            if (name.startsWith("set") && args != null && args.length >= 2 && args[0] instanceof Integer) {
+                bind((Integer) args[0], name.equals("setNull") ? null : args[1]);
+            } else if (name.equals("clearParameters")) {
+                parameters = new Object[0];
+            } else if (name.equals("addBatch") && args == null) {
+                batch.add(Arrays.asList(parameters.clone()));
+            } else if (name.equals("clearBatch")) {
+                batch.clear();
+            }
+            return SqlLoggingDataSource.invoke(statement, method, args);
+        }
+
+        private Object execute(Method method, Object[] args) throws Throwable {
+            long startedAt = System.nanoTime();
+            try {
+                return SqlLoggingDataSource.invoke(statement, method, args);
+            } finally {
+                long elapsedNanos = System.nanoTime() - startedAt;
+                String executedSql = args != null && args.length > 0 && args[0] instanceof String ? (String) args[0] : sql;
+                sqlLogger.record(executedSql, executedParameters(method), elapsedNanos);
+            }
+        }
+
+        private List<List<Object>> executedParameters(Method method) {
+            if (method.getName().endsWith("Batch")) {
+                List<List<Object>> executed = new ArrayList<>(batch);
+                batch.clear();
+                return executed;
+            }
+            return Collections.singletonList(Arrays.asList(parameters.clone()));
+        }
+
+        private void bind(int index, Object value) {
+            if (parameters.length < index) {
+                parameters = Arrays.copyOf(parameters, index);
+            }
+            parameters[index - 1] = loggable(value);
+        }
+
+        // 스트림이나 LOB 같은 값은 붙잡아 두지 않고 타입만 남긴다.
+        private Object loggable(Object value) {
+            if (value == null || value instanceof Number || value instanceof CharSequence || value instanceof Boolean
+                    || value instanceof Date || value instanceof TemporalAccessor || value instanceof Enum) {
+                return value instanceof CharSequence ? value.toString() : value;
+            }
+            return "<" + value.getClass().getSimpleName() + ">";
+        }
+    }
+}
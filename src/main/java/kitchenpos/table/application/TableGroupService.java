@@ -1,13 +1,16 @@
 package kitchenpos.table.application;
 
+import java.util.Collections;
 import java.util.List;
 import java.util.stream.Collectors;
 
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.util.CollectionUtils;
 
 import kitchenpos.table.domain.*;
 import kitchenpos.table.ui.request.CreateTableGroupRequest;
+import kitchenpos.table.ui.request.TableIdRequest;
 import kitchenpos.table.ui.response.TableGroupResponse;
 
 @Service
@@ -28,30 +31,32 @@ public class TableGroupService {
 
     @Transactional
     public TableGroupResponse create(final CreateTableGroupRequest request) {
+        final List<Long> orderTableIds = orderTableIds(request);
+        final List<OrderTable> orderTables = orderTableRepository.findAllForUpdateByIdIn(orderTableIds);
+
         final TableGroup tableGroup = new TableGroup();
-        final List<OrderTable> orderTables = getOrderTables(tableGroup, request);
-        tableGroup.addOrderTables(orderTables);
+        tableGroup.addOrderTables(OrderTables.of(orderTableIds, orderTables));
         return TableGroupResponse.from(tableGroupRepository.save(tableGroup));
     }
 
-    private List<OrderTable> getOrderTables(TableGroup tableGroup, CreateTableGroupRequest request) {
+    private List<Long> orderTableIds(CreateTableGroupRequest request) {
+        if (CollectionUtils.isEmpty(request.getOrderTables())) {
+            return Collections.emptyList();
+        }
         return request.getOrderTables()
                       .stream()
-                      .map(orderTable -> {
-                          final OrderTable table = orderTableRepository.findById(orderTable.getId())
-                              .orElseThrow(() -> new IllegalArgumentException("등록되지 않은 테이블은 그룹으로 지정할 수 없습니다."));
-
-                          table.assigned(tableGroup);
-                          return table;
-                      })
+                      .map(TableIdRequest::getId)
                       .collect(Collectors.toList());
     }
 
     @Transactional
     public void ungroup(final Long tableGroupId) {
-        final TableGroup tableGroup = tableGroupRepository.findById(tableGroupId)
-            .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 그룹입니다."));
+        if (!tableGroupRepository.existsById(tableGroupId)) {
+            throw new IllegalArgumentException("존재하지 않는 그룹입니다.");
+        }
 
-        tableGroup.ungroup(tableValidator);
+        final List<Long> orderTableIds = orderTableRepository.findIdsByTableGroupId(tableGroupId);
+        tableValidator.validateOrders(orderTableIds);
+        orderTableRepository.ungroupAllByTableGroupId(tableGroupId);
     }
 }
@@ -3,10 +3,12 @@ package kitchenpos.table.domain;
 import java.util.Objects;
 import javax.persistence.*;
 
+import kitchenpos.id.ConfigurableIdGenerator;
+
 @Entity
 public class OrderTable {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(generator = ConfigurableIdGenerator.NAME)
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY)
@@ -50,17 +52,15 @@ public class OrderTable {
     }
 
     public void assigned(TableGroup tableGroup) {
-        if (!this.empty || Objects.nonNull(this.tableGroup)) {
+        if (!isGroupable()) {
             throw new IllegalArgumentException("테이블이 비어있지 않거나 이미 다른 그룹에 속한 테이블은 그룹으로 지정할 수 없습니다.");
         }
         this.empty = false;
         this.tableGroup = tableGroup;
     }
 
-    public void ungroup(TableValidator tableValidator) {
-        tableValidator.validateOrder(this);
-        this.tableGroup = null;
-        this.empty = false;
+    public boolean isGroupable() {
+        return this.empty && Objects.isNull(this.tableGroup);
     }
 
     public Long getTableGroupId() {
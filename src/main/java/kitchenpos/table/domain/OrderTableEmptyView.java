@@ -0,0 +1,7 @@
+package kitchenpos.table.domain;
+
+public interface OrderTableEmptyView {
+    Long getId();
+
+    boolean isEmpty();
+}
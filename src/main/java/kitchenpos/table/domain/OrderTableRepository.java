@@ -1,6 +1,31 @@
 package kitchenpos.table.domain;
 
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import javax.persistence.LockModeType;
+
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 public interface OrderTableRepository extends JpaRepository<OrderTable, Long> {
+    @Query("select t.empty from OrderTable t where t.id = :id")
+    Optional<Boolean> findEmptyById(@Param("id") Long id);
+
+    @Query("select t.id as id, t.empty as empty from OrderTable t where t.id in :ids")
+    List<OrderTableEmptyView> findEmptyViewsByIdIn(@Param("ids") Collection<Long> ids);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select t from OrderTable t where t.id in :ids order by t.id")
+    List<OrderTable> findAllForUpdateByIdIn(@Param("ids") Collection<Long> ids);
+
+    @Query("select t.id from OrderTable t where t.tableGroup.id = :tableGroupId")
+    List<Long> findIdsByTableGroupId(@Param("tableGroupId") Long tableGroupId);
+
+    @Modifying(clearAutomatically = true)
+    @Query("update OrderTable t set t.tableGroup = null, t.empty = false where t.tableGroup.id = :tableGroupId")
+    int ungroupAllByTableGroupId(@Param("tableGroupId") Long tableGroupId);
 }
@@ -1,6 +1,12 @@
 package kitchenpos.table.domain;
 
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.stream.Collectors;
 import javax.persistence.Embeddable;
 import javax.persistence.OneToMany;
 
@@ -18,16 +24,42 @@ public class OrderTables {
         this.orderTables = orderTables;
     }
 
-    public static OrderTables from(List<OrderTable> orderTables) {
-        if (CollectionUtils.isEmpty(orderTables) || orderTables.size() < 2) {
+    public static OrderTables of(List<Long> orderTableIds, List<OrderTable> orderTables) {
+        if (CollectionUtils.isEmpty(orderTableIds) || new HashSet<>(orderTableIds).size() < 2) {
             throw new IllegalArgumentException("그룹을 지정하려면 둘 이상의 테이블이 필요합니다.");
         }
+
+        final List<String> messages = new ArrayList<>();
+        final Set<Long> notRegisteredIds = notRegisteredIds(orderTableIds, orderTables);
+        if (!notRegisteredIds.isEmpty()) {
+            messages.add("등록되지 않은 테이블은 그룹으로 지정할 수 없습니다. " + notRegisteredIds);
+        }
+        final Set<Long> notGroupableIds = notGroupableIds(orderTables);
+        if (!notGroupableIds.isEmpty()) {
+            messages.add("테이블이 비어있지 않거나 이미 다른 그룹에 속한 테이블은 그룹으로 지정할 수 없습니다. " + notGroupableIds);
+        }
+        if (!messages.isEmpty()) {
+            throw new IllegalArgumentException(String.join(" ", messages));
+        }
         return new OrderTables(orderTables);
     }
 
-    public void ungroup(TableValidator tableValidator) {
+    private static Set<Long> notRegisteredIds(List<Long> orderTableIds, List<OrderTable> orderTables) {
+        final Set<Long> notRegisteredIds = new LinkedHashSet<>(orderTableIds);
+        orderTables.forEach(orderTable -> notRegisteredIds.remove(orderTable.getId()));
+        return notRegisteredIds;
+    }
+
+    private static Set<Long> notGroupableIds(List<OrderTable> orderTables) {
+        return orderTables.stream()
+                          .filter(orderTable -> !orderTable.isGroupable())
+                          .map(OrderTable::getId)
+                          .collect(Collectors.toCollection(TreeSet::new));
+    }
+
+    public void assigned(TableGroup tableGroup) {
         for (OrderTable orderTable : orderTables) {
-            orderTable.ungroup(tableValidator);
+            orderTable.assigned(tableGroup);
         }
     }
 
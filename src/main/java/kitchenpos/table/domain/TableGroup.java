@@ -5,10 +5,12 @@ import java.util.ArrayList;
 import java.util.List;
 import javax.persistence.*;
 
+import kitchenpos.id.ConfigurableIdGenerator;
+
 @Entity
 public class TableGroup {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(generator = ConfigurableIdGenerator.NAME)
     private Long id;
 
     private LocalDateTime createdDate;
@@ -30,12 +32,9 @@ public class TableGroup {
         this.orderTables = new OrderTables(orderTables);
     }
 
-    public void addOrderTables(List<OrderTable> orderTables) {
-        this.orderTables = OrderTables.from(orderTables);
-    }
-
-    public void ungroup(TableValidator tableValidator) {
-        orderTables.ungroup(tableValidator);
+    public void addOrderTables(OrderTables orderTables) {
+        orderTables.assigned(this);
+        this.orderTables = orderTables;
     }
 
     public Long getId() {
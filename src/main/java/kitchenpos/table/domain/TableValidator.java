@@ -4,7 +4,6 @@ import java.util.List;
 
 import org.springframework.stereotype.Component;
 
-import kitchenpos.order.domain.Order;
 import kitchenpos.order.domain.OrderRepository;
 import kitchenpos.order.domain.OrderStatus;
 
@@ -17,10 +16,17 @@ public class TableValidator {
     }
 
     public void validateOrder(OrderTable orderTable) {
-        List<Order> orders = orderRepository.findAllByOrderTableId(orderTable.getId());
+        boolean isCookingOrMeal = orderRepository.existsByOrderTableIdAndOrderStatusIn(orderTable.getId(), OrderStatus.inProgress());
+        if (isCookingOrMeal) {
+            throw new IllegalArgumentException("주문 상태가 조리중이나 식사중입니다.");
+        }
+    }
 
-        boolean isCookingOrMeal = orders.stream()
-                                        .anyMatch(order -> order.isStatus(OrderStatus.COOKING) || order.isStatus(OrderStatus.MEAL));
+    public void validateOrders(List<Long> orderTableIds) {
+        if (orderTableIds.isEmpty()) {
+            return;
+        }
+        boolean isCookingOrMeal = orderRepository.existsByOrderTableIdInAndOrderStatusIn(orderTableIds, OrderStatus.inProgress());
         if (isCookingOrMeal) {
             throw new IllegalArgumentException("주문 상태가 조리중이나 식사중입니다.");
         }
@@ -0,0 +1,2 @@
+-- 같은 키로 다른 주문을 요청하면 거절하도록 처음 요청의 해시를 저장한다. 이전에 저장한 키는 해시가 없으므로 비교하지 않는다.
+ALTER TABLE order_idempotency_key ADD COLUMN request_hash VARCHAR(64);
@@ -0,0 +1,3 @@
+-- 테이블이나 상태로 거른 주문 목록이 id 커서 다음 한 페이지만 읽도록 조건 컬럼 뒤에 id 를 둔다.
+CREATE INDEX idx_orders_order_table_id_id ON orders (order_table_id, id);
+CREATE INDEX idx_orders_order_status_id ON orders (order_status, id);
@@ -0,0 +1,7 @@
+CREATE SEQUENCE orders_seq START WITH 1 INCREMENT BY 50;
+
+CREATE SEQUENCE order_line_item_seq START WITH 1 INCREMENT BY 50;
+
+-- 이미 저장된 주문이 있으면 다음 id 가 겹치지 않도록 가장 큰 id 다음부터 시작한다.
+ALTER SEQUENCE orders_seq RESTART WITH (SELECT COALESCE(MAX(id), 0) + 1 FROM orders);
+ALTER SEQUENCE order_line_item_seq RESTART WITH (SELECT COALESCE(MAX(seq), 0) + 1 FROM order_line_item);
@@ -0,0 +1,22 @@
+CREATE SEQUENCE menu_group_seq START WITH 1 INCREMENT BY 50;
+CREATE SEQUENCE product_seq START WITH 1 INCREMENT BY 50;
+CREATE SEQUENCE menu_seq START WITH 1 INCREMENT BY 50;
+CREATE SEQUENCE menu_product_seq START WITH 1 INCREMENT BY 50;
+CREATE SEQUENCE order_table_seq START WITH 1 INCREMENT BY 50;
+CREATE SEQUENCE table_group_seq START WITH 1 INCREMENT BY 50;
+
+ALTER SEQUENCE menu_group_seq RESTART WITH (SELECT COALESCE(MAX(id), 0) + 1 FROM menu_group);
+ALTER SEQUENCE product_seq RESTART WITH (SELECT COALESCE(MAX(id), 0) + 1 FROM product);
+ALTER SEQUENCE menu_seq RESTART WITH (SELECT COALESCE(MAX(id), 0) + 1 FROM menu);
+ALTER SEQUENCE menu_product_seq RESTART WITH (SELECT COALESCE(MAX(seq), 0) + 1 FROM menu_product);
+ALTER SEQUENCE order_table_seq RESTART WITH (SELECT COALESCE(MAX(id), 0) + 1 FROM order_table);
+ALTER SEQUENCE table_group_seq RESTART WITH (SELECT COALESCE(MAX(id), 0) + 1 FROM table_group);
+
+ALTER TABLE menu_group ALTER COLUMN id BIGINT(20) NOT NULL;
+ALTER TABLE product ALTER COLUMN id BIGINT(20) NOT NULL;
+ALTER TABLE menu ALTER COLUMN id BIGINT(20) NOT NULL;
+ALTER TABLE menu_product ALTER COLUMN seq BIGINT(20) NOT NULL;
+ALTER TABLE order_table ALTER COLUMN id BIGINT(20) NOT NULL;
+ALTER TABLE table_group ALTER COLUMN id BIGINT(20) NOT NULL;
+ALTER TABLE orders ALTER COLUMN id BIGINT(20) NOT NULL;
+ALTER TABLE order_line_item ALTER COLUMN seq BIGINT(20) NOT NULL;
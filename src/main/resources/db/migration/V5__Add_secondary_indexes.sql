@@ -0,0 +1,2 @@
+-- 외래 키 컬럼에는 H2 가 인덱스를 만들어 주므로, 외래 키 인덱스로 처리할 수 없는 주문 상태 조건만 인덱스를 더한다.
+CREATE INDEX idx_orders_order_table_id_order_status ON orders (order_table_id, order_status);
@@ -0,0 +1,9 @@
+ALTER TABLE order_line_item ADD COLUMN menu_name VARCHAR(255);
+ALTER TABLE order_line_item ADD COLUMN menu_price DECIMAL(19, 2);
+
+UPDATE order_line_item i
+SET menu_name = (SELECT m.name FROM menu m WHERE m.id = i.menu_id),
+    menu_price = (SELECT m.price FROM menu m WHERE m.id = i.menu_id);
+
+ALTER TABLE order_line_item ALTER COLUMN menu_name SET NOT NULL;
+ALTER TABLE order_line_item ALTER COLUMN menu_price SET NOT NULL;
@@ -0,0 +1,21 @@
+CREATE SEQUENCE menu_version_seq START WITH 1 INCREMENT BY 50;
+
+CREATE TABLE menu_version (
+    id BIGINT(20) NOT NULL,
+    menu_id BIGINT(20) NOT NULL,
+    name VARCHAR(255) NOT NULL,
+    price DECIMAL(19, 2) NOT NULL,
+    effective_from DATETIME NOT NULL,
+    PRIMARY KEY (id)
+);
+
+ALTER TABLE menu_version
+    ADD CONSTRAINT fk_menu_version_menu
+        FOREIGN KEY (menu_id) REFERENCES menu (id);
+
+CREATE INDEX idx_menu_version_menu_id_effective_from ON menu_version (menu_id, effective_from);
+
+-- 기존 메뉴의 유효 시작 시각은 알 수 없으므로 가장 이른 시각으로 둔다.
+INSERT INTO menu_version (id, menu_id, name, price, effective_from)
+SELECT NEXT VALUE FOR menu_version_seq, id, name, price, '1970-01-01 00:00:00'
+FROM menu;
@@ -0,0 +1,13 @@
+CREATE TABLE order_idempotency_key (
+    idempotency_key VARCHAR(255) NOT NULL,
+    order_id BIGINT(20) NOT NULL,
+    created_at DATETIME NOT NULL,
+    PRIMARY KEY (idempotency_key)
+);
+
+ALTER TABLE order_idempotency_key
+    ADD CONSTRAINT fk_order_idempotency_key_orders
+        FOREIGN KEY (order_id) REFERENCES orders (id);
+
+-- 오래된 키를 지울 때 테이블 전체를 읽지 않도록 한다.
+CREATE INDEX idx_order_idempotency_key_created_at ON order_idempotency_key (created_at);
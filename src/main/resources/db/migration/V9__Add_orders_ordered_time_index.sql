@@ -0,0 +1,2 @@
+-- 주문 내보내기는 주문 시각 범위로 걸러 주문 시각 순서로 읽는다.
+CREATE INDEX idx_orders_ordered_time ON orders (ordered_time, id);
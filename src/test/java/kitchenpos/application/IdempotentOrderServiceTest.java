@@ -0,0 +1,118 @@
+package kitchenpos.application;
+
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.Optional;
+
+import org.springframework.dao.DataIntegrityViolationException;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import kitchenpos.order.application.IdempotentOrderService;
+import kitchenpos.order.application.OrderIdempotencyProperties;
+import kitchenpos.order.application.OrderIdempotencyStore;
+import kitchenpos.order.domain.OrderStatus;
+import kitchenpos.order.ui.request.CreateOrderRequest;
+import kitchenpos.order.ui.request.OrderLineItemRequest;
+import kitchenpos.order.ui.response.CreateOrderResponse;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import static kitchenpos.fixture.MenuFixture.후라이드_단품;
+import static kitchenpos.fixture.OrderTableFixture.단일_손님2_테이블;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class IdempotentOrderServiceTest {
+    private static final String IDEMPOTENCY_KEY = "terminal-1-0001";
+
+    @Mock
+    private OrderIdempotencyStore store;
+
+    private IdempotentOrderService idempotentOrderService;
+
+    private final CreateOrderRequest request = new CreateOrderRequest(
+            단일_손님2_테이블.getId(),
+            Collections.singletonList(new OrderLineItemRequest(후라이드_단품.getId(), 2))
+    );
+
+    private final CreateOrderResponse created = new CreateOrderResponse(
+            1L, 단일_손님2_테이블.getId(), OrderStatus.COOKING, LocalDateTime.now(), Collections.emptyList()
+    );
+
+    @BeforeEach
+    void setUp() {
+        idempotentOrderService = new IdempotentOrderService(store, new OrderIdempotencyProperties(), new SimpleMeterRegistry());
+    }
+
+    @Test
+    @DisplayName("같은 멱등 키로 다시 요청하면 주문을 다시 등록하지 않고 처음 응답을 돌려준다.")
+    void createOnce() {
+        // given
+        given(store.create(eq(IDEMPOTENCY_KEY), anyString(), eq(request))).willReturn(created);
+
+        // when
+        CreateOrderResponse first = idempotentOrderService.create(IDEMPOTENCY_KEY, request);
+        CreateOrderResponse retried = idempotentOrderService.create(IDEMPOTENCY_KEY, request);
+
+        // then
+        assertSame(first, retried);
+        verify(store, times(1)).create(anyString(), anyString(), any(CreateOrderRequest.class));
+    }
+
+    @Test
+    @DisplayName("같은 멱등 키로 다른 주문을 요청하면 주문을 등록하지 않고 거절한다.")
+    void createWrongRequestWithSameKey() {
+        // given
+        given(store.create(eq(IDEMPOTENCY_KEY), anyString(), eq(request))).willReturn(created);
+        idempotentOrderService.create(IDEMPOTENCY_KEY, request);
+        CreateOrderRequest otherRequest = new CreateOrderRequest(
+                단일_손님2_테이블.getId(),
+                Collections.singletonList(new OrderLineItemRequest(후라이드_단품.getId(), 3))
+        );
+
+        // when & then
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
+                () -> idempotentOrderService.create(IDEMPOTENCY_KEY, otherRequest));
+        assertEquals("같은 멱등 키로 다른 주문을 요청할 수 없습니다.", exception.getMessage());
+        verify(store, times(1)).create(anyString(), anyString(), any(CreateOrderRequest.class));
+    }
+
+    @Test
+    @DisplayName("같은 멱등 키의 다른 요청이 먼저 커밋되면 그 주문으로 응답한다.")
+    void createConflict() {
+        // given
+        given(store.create(eq(IDEMPOTENCY_KEY), anyString(), eq(request))).willThrow(new DataIntegrityViolationException("duplicate key"));
+        given(store.findCreated(eq(IDEMPOTENCY_KEY), anyString())).willReturn(Optional.of(created));
+
+        // when
+        CreateOrderResponse actual = idempotentOrderService.create(IDEMPOTENCY_KEY, request);
+
+        // then
+        assertSame(created, actual);
+    }
+
+    @Test
+    @DisplayName("멱등 키가 비어있으면 주문을 등록할 수 없다.")
+    void createWrongIdempotencyKeyBlank() {
+        // when & then
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
+                () -> idempotentOrderService.create(" ", request));
+        assertEquals("멱등 키는 1자 이상 255자 이하여야 합니다.", exception.getMessage());
+        verify(store, never()).create(anyString(), anyString(), any(CreateOrderRequest.class));
+    }
+}
@@ -1,20 +1,34 @@
 package kitchenpos.application;
 
 import java.math.BigDecimal;
+import java.time.LocalDateTime;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.Optional;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import org.springframework.context.ApplicationEventPublisher;
 
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 
+import kitchenpos.menu.application.MenuCatalog;
+import kitchenpos.menu.application.MenuCatalogSnapshot;
 import kitchenpos.menu.domain.Menu;
+import kitchenpos.menu.domain.MenuCatalogChangedEvent;
 import kitchenpos.menu.domain.MenuValidator;
 import kitchenpos.menu.domain.MenuRepository;
+import kitchenpos.menu.domain.MenuVersion;
+import kitchenpos.menu.domain.MenuVersionRepository;
+import kitchenpos.menu.ui.request.ChangeNamePriceRequest;
 import kitchenpos.menu.ui.request.CreateMenuRequest;
 import kitchenpos.menu.ui.request.MenuProductRequest;
 import kitchenpos.menu.ui.response.MenuResponse;
+import kitchenpos.menu.ui.response.MenuVersionResponse;
+import kitchenpos.money.Money;
 import kitchenpos.menu.application.MenuService;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
@@ -30,6 +44,9 @@ import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 
 @DisplayName("MenuService 단위 테스트")
 @ExtendWith(MockitoExtension.class)
@@ -38,9 +55,18 @@ class MenuServiceTest {
     @Mock
     private MenuRepository menuRepository;
 
+    @Mock
+    private MenuVersionRepository menuVersionRepository;
+
     @Mock
     private MenuValidator menuValidator;
 
+    @Mock
+    private MenuCatalog menuCatalog;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     @InjectMocks
     private MenuService menuService;
 
@@ -64,6 +90,8 @@ class MenuServiceTest {
         assertNotNull(actual.getId());
         assertThat(actual.getName()).isEqualTo("강정");
         assertEquals(1, actual.getMenuProducts().size());
+        verify(menuVersionRepository).save(argThat(version -> version.getMenuId().equals(1L) && version.getName().equals("강정")));
+        verify(eventPublisher).publishEvent(refEq(new MenuCatalogChangedEvent(1L)));
     }
 
     @Test
@@ -176,12 +204,78 @@ class MenuServiceTest {
     @DisplayName("전체 메뉴를 조회할 수 있다")
     void list() {
         // given
-        given(menuRepository.findAll()).willReturn(Arrays.asList(양념반_후라이드반, 더블간장));
+        given(menuCatalog.getSnapshot()).willReturn(MenuCatalogSnapshot.of(
+                1L,
+                Arrays.asList(MenuResponse.from(양념반_후라이드반), MenuResponse.from(더블간장)),
+                new ObjectMapper()
+        ));
 
         // when
         List<MenuResponse> actual = menuService.list();
 
         // then
         assertEquals(2, actual.size());
+        verify(menuRepository, never()).findAll();
+    }
+
+    @Test
+    @DisplayName("메뉴의 이름과 가격을 변경하면 기존 버전을 고치지 않고 새 버전을 추가한다.")
+    void changeNamePrice() {
+        // given
+        Menu menu = new Menu(1L, "강정", BigDecimal.valueOf(15000), 추천메뉴.getId(), Collections.singletonList(강정치킨_한마리_메뉴상품));
+        given(menuRepository.findById(1L)).willReturn(Optional.of(menu));
+
+        // when
+        menuService.changeNamePrice(1L, new ChangeNamePriceRequest("매운 강정", BigDecimal.valueOf(16000)));
+
+        // then
+        assertThat(menu.getName()).isEqualTo("매운 강정");
+        verify(menuVersionRepository, times(1)).save(argThat(version ->
+                version.getMenuId().equals(1L)
+                        && version.getName().equals("매운 강정")
+                        && version.getPrice().equals(Money.of(16000))));
+        verify(eventPublisher).publishEvent(refEq(new MenuCatalogChangedEvent(1L)));
+    }
+
+    @Test
+    @DisplayName("특정 시점에 유효했던 메뉴 버전을 조회할 수 있다.")
+    void findVersionAt() {
+        // given
+        LocalDateTime orderedTime = LocalDateTime.of(2021, 3, 1, 12, 0);
+        MenuVersion version = new MenuVersion(3L, 1L, "강정", Money.of(15000), LocalDateTime.of(2021, 1, 1, 0, 0));
+        given(menuVersionRepository.findAt(1L, orderedTime)).willReturn(Optional.of(version));
+
+        // when
+        MenuVersionResponse actual = menuService.findVersion(1L, orderedTime);
+
+        // then
+        assertEquals(3L, actual.getId());
+        assertEquals("강정", actual.getName());
+    }
+
+    @Test
+    @DisplayName("시점을 지정하지 않으면 현재 메뉴 버전을 조회한다.")
+    void findCurrentVersion() {
+        // given
+        MenuVersion version = new MenuVersion(4L, 1L, "매운 강정", Money.of(16000), LocalDateTime.now());
+        given(menuVersionRepository.findCurrent(1L)).willReturn(Optional.of(version));
+
+        // when
+        MenuVersionResponse actual = menuService.findVersion(1L, null);
+
+        // then
+        assertEquals("매운 강정", actual.getName());
+    }
+
+    @Test
+    @DisplayName("해당 시점에 유효한 메뉴 버전이 없으면 조회할 수 없다.")
+    void findVersionNotExist() {
+        // given
+        given(menuVersionRepository.findAt(anyLong(), any(LocalDateTime.class))).willReturn(Optional.empty());
+
+        // when & then
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
+                () -> menuService.findVersion(1L, LocalDateTime.of(2000, 1, 1, 0, 0)));
+        assertEquals("해당 시점에 유효한 메뉴 버전이 없습니다.", exception.getMessage());
     }
 }
@@ -1,10 +1,16 @@
 package kitchenpos.application;
 
-import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.stream.Stream;
+import javax.persistence.EntityManager;
+
+import org.springframework.data.domain.Pageable;
 
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -14,24 +20,38 @@ import kitchenpos.order.application.OrderService;
 import kitchenpos.order.domain.*;
 import kitchenpos.order.ui.request.ChangeOrderStatusRequest;
 import kitchenpos.order.ui.request.CreateOrderRequest;
+import kitchenpos.order.ui.request.CreateOrdersRequest;
+import kitchenpos.order.ui.request.OrderExportRequest;
 import kitchenpos.order.ui.request.OrderLineItemRequest;
+import kitchenpos.order.ui.request.OrderSearchRequest;
 import kitchenpos.order.ui.response.CreateOrderResponse;
+import kitchenpos.order.ui.response.CreateOrderResultResponse;
+import kitchenpos.order.ui.response.CreateOrdersResponse;
+import kitchenpos.order.ui.response.OrderPageResponse;
 import kitchenpos.order.ui.response.OrderResponse;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import static kitchenpos.fixture.MenuFixture.이름_가격;
 import static kitchenpos.fixture.MenuFixture.후라이드_단품;
 import static kitchenpos.fixture.OrderFixture.COMPLETION_ORDER;
 import static kitchenpos.fixture.OrderFixture.COOKING_ORDER;
 import static kitchenpos.fixture.OrderTableFixture.단일_손님0_테이블1;
 import static kitchenpos.fixture.OrderTableFixture.단일_손님2_테이블;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 
 @DisplayName("OrderService 단위 테스트")
 @ExtendWith(MockitoExtension.class)
@@ -43,6 +63,9 @@ class OrderServiceTest {
     @Mock
     private OrderValidator orderValidator;
 
+    @Mock
+    private EntityManager entityManager;
+
     @InjectMocks
     private OrderService orderService;
 
@@ -54,21 +77,16 @@ class OrderServiceTest {
                 단일_손님2_테이블.getId(),
                 Collections.singletonList(new OrderLineItemRequest(후라이드_단품.getId(), 2))
         );
-        Order order = new Order(
-                1L,
-                단일_손님2_테이블.getId(),
-                OrderStatus.COOKING,
-                LocalDateTime.now(),
-                Collections.singletonList(new OrderLineItem(후라이드_단품.getId(), 2))
-        );
-
-        given(orderRepository.save(any(Order.class))).willReturn(order);
+        given(orderValidator.validateMenus(anyList())).willReturn(OrderMenus.from(Collections.singletonList(이름_가격(후라이드_단품))));
+        given(orderRepository.save(any(Order.class))).willAnswer(invocation -> invocation.getArgument(0));
 
         // when
         CreateOrderResponse actual = orderService.create(request);
 
         // then
         assertEquals(OrderStatus.COOKING, actual.getOrderStatus());
+        assertEquals(후라이드_단품.getName(), actual.getOrderLineItems().get(0).getMenuName());
+        assertEquals(후라이드_단품.getPrice().toBigDecimal(), actual.getOrderLineItems().get(0).getMenuPrice());
     }
 
     @Test
@@ -94,7 +112,7 @@ class OrderServiceTest {
                 단일_손님2_테이블.getId(),
                 Collections.singletonList(new OrderLineItemRequest(10L, 2))
         );
-        doThrow(new IllegalArgumentException("등록되지 않은 메뉴는 주문할 수 없습니다.")).when(orderValidator).validateMenu(anyLong());
+        given(orderValidator.validateMenus(anyList())).willThrow(new IllegalArgumentException("등록되지 않은 메뉴는 주문할 수 없습니다."));
 
         // when & then
         IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
@@ -135,16 +153,141 @@ class OrderServiceTest {
     }
 
     @Test
-    @DisplayName("전체 주문을 조회할 수 있다.")
+    @DisplayName("여러 주문을 한 번에 등록할 수 있다. - 올바르지 않은 주문은 실패로 응답하고 나머지 주문은 등록한다.")
+    void createAll() {
+        // given
+        CreateOrdersRequest request = new CreateOrdersRequest(Arrays.asList(
+                new CreateOrderRequest(단일_손님2_테이블.getId(), Collections.singletonList(new OrderLineItemRequest(후라이드_단품.getId(), 2))),
+                new CreateOrderRequest(단일_손님0_테이블1.getId(), Collections.singletonList(new OrderLineItemRequest(후라이드_단품.getId(), 1))),
+                new CreateOrderRequest(단일_손님2_테이블.getId(), Collections.singletonList(new OrderLineItemRequest(10L, 1)))
+        ));
+        Map<Long, Boolean> emptyByTableId = new HashMap<>();
+        emptyByTableId.put(단일_손님2_테이블.getId(), false);
+        emptyByTableId.put(단일_손님0_테이블1.getId(), true);
+        given(orderValidator.prepare(anyCollection(), anyCollection()))
+                .willReturn(new OrderBatchValidator(emptyByTableId, OrderMenus.from(Collections.singletonList(이름_가격(후라이드_단품)))));
+
+        // when
+        CreateOrdersResponse actual = orderService.createAll(request);
+
+        // then
+        List<CreateOrderResultResponse> results = actual.getResults();
+        assertEquals(3, results.size());
+        assertTrue(results.get(0).isSuccess());
+        assertEquals(OrderStatus.COOKING, results.get(0).getOrder().getOrderStatus());
+        assertEquals("빈 테이블은 주문할 수 없습니다.", results.get(1).getMessage());
+        assertEquals("등록되지 않은 메뉴는 주문할 수 없습니다. [10]", results.get(2).getMessage());
+        verify(orderRepository, times(1)).saveAll(anyCollection());
+    }
+
+    @Test
+    @DisplayName("여러 주문을 한 번에 등록할 때 비어있는 주문은 그 주문만 실패로 응답한다.")
+    void createAllWithEmptyOrders() {
+        // given
+        CreateOrdersRequest request = new CreateOrdersRequest(Arrays.asList(
+                new CreateOrderRequest(단일_손님2_테이블.getId(), Collections.singletonList(new OrderLineItemRequest(후라이드_단품.getId(), 2))),
+                null,
+                new CreateOrderRequest(단일_손님2_테이블.getId(), null),
+                new CreateOrderRequest(단일_손님2_테이블.getId(), Collections.singletonList(null))
+        ));
+        Map<Long, Boolean> emptyByTableId = new HashMap<>();
+        emptyByTableId.put(단일_손님2_테이블.getId(), false);
+        given(orderValidator.prepare(anyCollection(), anyCollection()))
+                .willReturn(new OrderBatchValidator(emptyByTableId, OrderMenus.from(Collections.singletonList(이름_가격(후라이드_단품)))));
+
+        // when
+        CreateOrdersResponse actual = orderService.createAll(request);
+
+        // then
+        List<CreateOrderResultResponse> results = actual.getResults();
+        assertEquals(4, results.size());
+        assertTrue(results.get(0).isSuccess());
+        assertEquals("주문 정보가 비어있습니다.", results.get(1).getMessage());
+        assertEquals("주문하려면 하나 이상의 메뉴가 필요합니다.", results.get(2).getMessage());
+        assertEquals("주문 항목 정보가 비어있습니다.", results.get(3).getMessage());
+    }
+
+    @Test
+    @DisplayName("한 번에 등록할 수 있는 주문 수를 넘어서면 주문을 일괄 등록할 수 없다.")
+    void createAllWrongSize() {
+        // given
+        CreateOrdersRequest request = new CreateOrdersRequest(Collections.emptyList());
+
+        // when & then
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
+                () -> orderService.createAll(request));
+        assertEquals("한 번에 등록할 수 있는 주문은 1개 이상 100개 이하입니다.", exception.getMessage());
+    }
+
+    @Test
+    @DisplayName("주문 목록을 조회할 수 있다.")
     void list() {
         // given
-        given(orderRepository.findAll()).willReturn(Arrays.asList(COOKING_ORDER, COMPLETION_ORDER));
+        OrderSearchRequest request = new OrderSearchRequest(null, 2, null, null, null, null);
+        given(orderRepository.findIdsAfter(anyLong(), any(), any(), any(), any(), any(Pageable.class)))
+                .willReturn(Arrays.asList(COOKING_ORDER.getId(), COMPLETION_ORDER.getId()));
+        given(orderRepository.findAllWithOrderLineItemsByIdIn(anyList()))
+                .willReturn(Arrays.asList(COOKING_ORDER, COMPLETION_ORDER));
+
+        // when
+        OrderPageResponse actual = orderService.list(request);
+
+        // then
+        assertEquals(2, actual.getOrders().size());
+        assertFalse(actual.isHasNext());
+        assertNull(actual.getNextCursor());
+    }
+
+    @Test
+    @DisplayName("조회할 주문이 더 남아있으면 마지막 주문의 id를 다음 커서로 응답한다.")
+    void listHasNext() {
+        // given
+        OrderSearchRequest request = new OrderSearchRequest(null, 1, null, null, null, null);
+        given(orderRepository.findIdsAfter(anyLong(), any(), any(), any(), any(), any(Pageable.class)))
+                .willReturn(Arrays.asList(COOKING_ORDER.getId(), COMPLETION_ORDER.getId()));
+        given(orderRepository.findAllWithOrderLineItemsByIdIn(Collections.singletonList(COOKING_ORDER.getId())))
+                .willReturn(Collections.singletonList(COOKING_ORDER));
+
+        // when
+        OrderPageResponse actual = orderService.list(request);
+
+        // then
+        assertEquals(1, actual.getOrders().size());
+        assertTrue(actual.isHasNext());
+        assertEquals(COOKING_ORDER.getId(), actual.getNextCursor());
+    }
+
+    @Test
+    @DisplayName("한 번에 조회할 수 있는 주문 수를 넘어서면 주문 목록을 조회할 수 없다.")
+    void listWrongSize() {
+        // given
+        OrderSearchRequest request = new OrderSearchRequest(null, 101, null, null, null, null);
+
+        // when & then
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
+                () -> orderService.list(request));
+        assertEquals("한 번에 조회할 수 있는 주문은 1개 이상 100개 이하입니다.", exception.getMessage());
+    }
+
+    @Test
+    @DisplayName("주문을 읽는 대로 내보낼 수 있다.")
+    void export() {
+        // given
+        OrderExportRequest request = new OrderExportRequest(null, null, null);
+        given(orderRepository.streamAll(any(), any(), any()))
+                .willReturn(Stream.of(COOKING_ORDER, COMPLETION_ORDER));
+        given(orderRepository.findAllWithOrderLineItemsByIdIn(Arrays.asList(COOKING_ORDER.getId(), COMPLETION_ORDER.getId())))
+                .willReturn(Arrays.asList(COOKING_ORDER, COMPLETION_ORDER));
+        List<OrderResponse> exported = new ArrayList<>();
 
         // when
-        List<OrderResponse> actual = orderService.list();
+        orderService.export(request, exported::add);
 
         // then
-        assertEquals(2, actual.size());
+        assertEquals(2, exported.size());
+        assertEquals(COOKING_ORDER.getId(), exported.get(0).getId());
+        assertEquals(COMPLETION_ORDER.getId(), exported.get(1).getId());
+        verify(entityManager).clear();
     }
 
     @Test
@@ -152,7 +295,7 @@ class OrderServiceTest {
     void changeOrderStatus() {
         // given
         ChangeOrderStatusRequest request = new ChangeOrderStatusRequest("MEAL");
-        given(orderRepository.findById(anyLong())).willReturn(Optional.of(COOKING_ORDER));
+        given(orderRepository.findWithOrderLineItemsById(anyLong())).willReturn(Optional.of(COOKING_ORDER));
 
         // when
         OrderResponse actual = orderService.changeOrderStatus(COOKING_ORDER.getId(), request);
@@ -166,7 +309,7 @@ class OrderServiceTest {
     void changeOrderStatusWrongOrderNotExist() {
         // given
         ChangeOrderStatusRequest request = new ChangeOrderStatusRequest("MEAL");
-        given(orderRepository.findById(anyLong())).willReturn(Optional.empty());
+        given(orderRepository.findWithOrderLineItemsById(anyLong())).willReturn(Optional.empty());
 
         // when & then
         IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
@@ -179,7 +322,7 @@ class OrderServiceTest {
     void changeOrderStatusWrongOrderStatus() {
         // given
         ChangeOrderStatusRequest request = new ChangeOrderStatusRequest("MEAL");
-        given(orderRepository.findById(anyLong())).willReturn(Optional.of(COMPLETION_ORDER));
+        given(orderRepository.findWithOrderLineItemsById(anyLong())).willReturn(Optional.of(COMPLETION_ORDER));
 
         // when & then
         IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
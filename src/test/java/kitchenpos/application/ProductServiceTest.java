@@ -4,11 +4,14 @@ import java.math.BigDecimal;
 import java.util.Arrays;
 import java.util.List;
 
+import org.springframework.context.ApplicationEventPublisher;
+
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 
 import kitchenpos.product.domain.Product;
+import kitchenpos.product.domain.ProductChangedEvent;
 import kitchenpos.product.domain.ProductRepository;
 import kitchenpos.product.ui.request.CreateProductRequest;
 import kitchenpos.product.ui.response.ProductResponse;
@@ -20,7 +23,9 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.refEq;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.verify;
 
 @DisplayName("ProductService 단위 테스트")
 @ExtendWith(MockitoExtension.class)
@@ -29,6 +34,9 @@ class ProductServiceTest {
     @Mock
     private ProductRepository productRepository;
 
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     @InjectMocks
     private ProductService productService;
 
@@ -45,7 +53,8 @@ class ProductServiceTest {
 
         // then
         assertEquals(expected.getName(), actual.getName());
-        assertEquals(expected.getPrice(), actual.getPrice());
+        assertEquals(expected.getPrice().toBigDecimal(), actual.getPrice());
+        verify(eventPublisher).publishEvent(refEq(new ProductChangedEvent(1L)));
     }
 
     @Test
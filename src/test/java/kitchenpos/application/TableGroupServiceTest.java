@@ -3,7 +3,7 @@ package kitchenpos.application;
 import java.time.LocalDateTime;
 import java.util.Arrays;
 import java.util.Collections;
-import java.util.Optional;
+import java.util.List;
 
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -24,9 +24,12 @@ import static kitchenpos.fixture.TableGroupFixture.GROUP1;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 
 @DisplayName("TableGroupService 단위 테스트")
 @ExtendWith(MockitoExtension.class)
@@ -54,8 +57,8 @@ class TableGroupServiceTest {
 
         TableGroup expected = new TableGroup(1L, LocalDateTime.now(), Arrays.asList(단일_손님0_테이블1, 단일_손님0_테이블2));
 
-        given(orderTableRepository.findById(단일_손님0_테이블1.getId())).willReturn(Optional.of(단일_손님0_테이블1));
-        given(orderTableRepository.findById(단일_손님0_테이블2.getId())).willReturn(Optional.of(단일_손님0_테이블2));
+        given(orderTableRepository.findAllForUpdateByIdIn(Arrays.asList(단일_손님0_테이블1.getId(), 단일_손님0_테이블2.getId())))
+                .willReturn(Arrays.asList(단일_손님0_테이블1, 단일_손님0_테이블2));
         given(tableGroupRepository.save(any(TableGroup.class))).willReturn(expected);
 
         // when
@@ -74,7 +77,7 @@ class TableGroupServiceTest {
         // given
         OrderTable table = new OrderTable(1L, null, 0, true);
         CreateTableGroupRequest group = new CreateTableGroupRequest(Collections.singletonList(new TableIdRequest(table.getId())));
-        given(orderTableRepository.findById(anyLong())).willReturn(Optional.of(table));
+        given(orderTableRepository.findAllForUpdateByIdIn(anyList())).willReturn(Collections.singletonList(table));
 
         // when & then
         IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
@@ -90,12 +93,12 @@ class TableGroupServiceTest {
                 Arrays.asList(new TableIdRequest(단일_손님0_테이블1.getId()), new TableIdRequest(단일_손님0_테이블2.getId()))
         );
 
-        given(orderTableRepository.findById(anyLong())).willReturn(Optional.empty());
+        given(orderTableRepository.findAllForUpdateByIdIn(anyList())).willReturn(Collections.emptyList());
 
         // when & then
         IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
                 () -> tableGroupService.create(group));
-        assertEquals("등록되지 않은 테이블은 그룹으로 지정할 수 없습니다.", exception.getMessage());
+        assertEquals("등록되지 않은 테이블은 그룹으로 지정할 수 없습니다. [3, 4]", exception.getMessage());
     }
 
     @Test
@@ -107,13 +110,15 @@ class TableGroupServiceTest {
         );
 
         OrderTable table1 = new OrderTable(단일_손님0_테이블1.getId(), null, 3, false);
+        OrderTable table2 = new OrderTable(단일_손님0_테이블2.getId(), null, 0, true);
 
-        given(orderTableRepository.findById(table1.getId())).willReturn(Optional.of(table1));
+        given(orderTableRepository.findAllForUpdateByIdIn(anyList())).willReturn(Arrays.asList(table1, table2));
 
         // when & then
         IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
                 () -> tableGroupService.create(group));
-        assertEquals("테이블이 비어있지 않거나 이미 다른 그룹에 속한 테이블은 그룹으로 지정할 수 없습니다.", exception.getMessage());
+        assertEquals("테이블이 비어있지 않거나 이미 다른 그룹에 속한 테이블은 그룹으로 지정할 수 없습니다. [3]", exception.getMessage());
+        assertTrue(table2.isGroupable());
     }
 
     @Test
@@ -127,56 +132,76 @@ class TableGroupServiceTest {
         OrderTable table1 = new OrderTable(단일_손님0_테이블1.getId(), null, 3, true);
         OrderTable table2 = new OrderTable(단일_손님0_테이블2.getId(), GROUP1, 5, true);
 
-        given(orderTableRepository.findById(table1.getId())).willReturn(Optional.of(table1));
-        given(orderTableRepository.findById(table2.getId())).willReturn(Optional.of(table2));
+        given(orderTableRepository.findAllForUpdateByIdIn(anyList())).willReturn(Arrays.asList(table1, table2));
 
         // when & then
         IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
                 () -> tableGroupService.create(group));
-        assertEquals("테이블이 비어있지 않거나 이미 다른 그룹에 속한 테이블은 그룹으로 지정할 수 없습니다.", exception.getMessage());
+        assertEquals("테이블이 비어있지 않거나 이미 다른 그룹에 속한 테이블은 그룹으로 지정할 수 없습니다. [4]", exception.getMessage());
+    }
+
+    @Test
+    @DisplayName("등록되지 않은 테이블과 지정할 수 없는 테이블을 한 번에 알려준다.")
+    void createWrongTablesReportedTogether() {
+        // given
+        CreateTableGroupRequest group = new CreateTableGroupRequest(
+                Arrays.asList(new TableIdRequest(1L), new TableIdRequest(2L), new TableIdRequest(7L), new TableIdRequest(9L))
+        );
+
+        given(orderTableRepository.findAllForUpdateByIdIn(Arrays.asList(1L, 2L, 7L, 9L))).willReturn(Arrays.asList(
+                new OrderTable(1L, null, 0, true),
+                new OrderTable(2L, null, 3, false)
+        ));
+
+        // when & then
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
+                () -> tableGroupService.create(group));
+        assertEquals("등록되지 않은 테이블은 그룹으로 지정할 수 없습니다. [7, 9] "
+                + "테이블이 비어있지 않거나 이미 다른 그룹에 속한 테이블은 그룹으로 지정할 수 없습니다. [2]", exception.getMessage());
+        verify(tableGroupRepository, never()).save(any(TableGroup.class));
     }
 
     @Test
     @DisplayName("묶여있는 테이블 그룹을 해제할 수 있다. - 그룹이 해제된 테이블들은 비어 있지 않은 상태가 된다.")
     void ungroup() {
         // given
-        OrderTable table1 = new OrderTable(1L, null, 0, true);
-        OrderTable table2 = new OrderTable(2L, null, 0, true);
-        TableGroup GROUP2 = new TableGroup(
-                2L,
-                LocalDateTime.now(),
-                Arrays.asList(table1, table2));
-        given(tableGroupRepository.findById(anyLong())).willReturn(Optional.of(GROUP2));
+        List<Long> orderTableIds = Arrays.asList(1L, 2L);
+        given(tableGroupRepository.existsById(2L)).willReturn(true);
+        given(orderTableRepository.findIdsByTableGroupId(2L)).willReturn(orderTableIds);
 
         // when
-        tableGroupService.ungroup(GROUP2.getId());
+        tableGroupService.ungroup(2L);
 
         // then
-        assertNull(table1.getTableGroup());
-        assertNull(table2.getTableGroup());
-        assertFalse(table1.isEmpty());
-        assertFalse(table2.isEmpty());
+        verify(tableValidator).validateOrders(orderTableIds);
+        verify(orderTableRepository).ungroupAllByTableGroupId(2L);
+    }
+
+    @Test
+    @DisplayName("존재하지 않는 그룹은 해제할 수 없다.")
+    void ungroupWrongGroupNotExist() {
+        // given
+        given(tableGroupRepository.existsById(anyLong())).willReturn(false);
+
+        // when & then
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
+                () -> tableGroupService.ungroup(2L));
+        assertEquals("존재하지 않는 그룹입니다.", exception.getMessage());
+        verify(orderTableRepository, never()).ungroupAllByTableGroupId(anyLong());
     }
 
     @Test
     @DisplayName("목록에 포함된 테이블들의 상태가 하나라도 조리중(COOKING)이나 식사중(MEAL)인 경우 그룹을 해제할 수 없다.")
     void ungroupWrongTableCookingOrMeal() {
         // given
-        TableGroup GROUP2 = new TableGroup(
-                2L,
-                LocalDateTime.now(),
-                Arrays.asList(
-                        new OrderTable(1L, null, 0, true),
-                        new OrderTable(2L, null, 0, true)
-                )
-        );
-
-        given(tableGroupRepository.findById(anyLong())).willReturn(Optional.of(GROUP2));
-        doThrow(new IllegalArgumentException("주문 상태가 조리중이나 식사중입니다.")).when(tableValidator).validateOrder(any());
+        given(tableGroupRepository.existsById(anyLong())).willReturn(true);
+        given(orderTableRepository.findIdsByTableGroupId(anyLong())).willReturn(Arrays.asList(1L, 2L));
+        doThrow(new IllegalArgumentException("주문 상태가 조리중이나 식사중입니다.")).when(tableValidator).validateOrders(anyList());
 
         // when & then
         IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
-                () -> tableGroupService.ungroup(GROUP2.getId()));
+                () -> tableGroupService.ungroup(2L));
         assertEquals("주문 상태가 조리중이나 식사중입니다.", exception.getMessage());
+        verify(orderTableRepository, never()).ungroupAllByTableGroupId(anyLong());
     }
 }
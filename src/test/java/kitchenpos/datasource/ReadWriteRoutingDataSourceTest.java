@@ -0,0 +1,157 @@
+package kitchenpos.datasource;
+
+import javax.sql.DataSource;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+@DisplayName("읽기/쓰기 데이터소스 라우팅 단위 테스트")
+class ReadWriteRoutingDataSourceTest {
+    private final DataSource primary = mock(DataSource.class);
+    private final DataSource replica = mock(DataSource.class);
+    private final ReplicaLag replicaLag = new ReplicaLag(1000, 0);
+    private final ReadWriteRoutingDataSource routingDataSource =
+            new ReadWriteRoutingDataSource(primary, replica, replicaLag, new SimpleMeterRegistry());
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(false);
+        DataSourceRouting.unbind();
+    }
+
+    @Test
+    @DisplayName("읽기 전용 트랜잭션은 복제본에서 읽는다.")
+    void readOnlyToReplica() {
+        // given
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+
+        // when & then
+        assertThat(routingDataSource.determineCurrentLookupKey()).isEqualTo("replica");
+    }
+
+    @Test
+    @DisplayName("읽기 전용이 아닌 트랜잭션은 주 데이터베이스를 쓴다.")
+    void readWriteToPrimary() {
+        // when & then
+        assertThat(routingDataSource.determineCurrentLookupKey()).isEqualTo("primary");
+    }
+
+    @Test
+    @DisplayName("복제본 지연이 허용 범위를 넘으면 주 데이터베이스에서 읽는다.")
+    void lagExceeded() {
+        // given
+        replicaLag.update(1001);
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+
+        // when & then
+        assertThat(routingDataSource.determineCurrentLookupKey()).isEqualTo("primary");
+    }
+
+    @Test
+    @DisplayName("복제본 지연을 알 수 없으면 주 데이터베이스에서 읽는다.")
+    void lagUnknown() {
+        // given
+        replicaLag.update(ReplicaLag.UNKNOWN);
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+
+        // when & then
+        assertThat(routingDataSource.determineCurrentLookupKey()).isEqualTo("primary");
+    }
+
+    @Test
+    @DisplayName("요청 중에 쓰기를 커밋한 직후의 읽기는 주 데이터베이스에서 읽는다.")
+    void readYourWrites() {
+        // given
+        DataSourceRouting.bind(new CallerWrites());
+        TransactionSynchronizationManager.initSynchronization();
+        routingDataSource.determineCurrentLookupKey();
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        TransactionSynchronizationManager.clearSynchronization();
+
+        // when
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+
+        // then
+        assertThat(routingDataSource.determineCurrentLookupKey()).isEqualTo("primary");
+    }
+
+    @Test
+    @DisplayName("롤백된 쓰기는 이후 읽기를 주 데이터베이스로 보내지 않는다.")
+    void rolledBackWrite() {
+        // given
+        DataSourceRouting.bind(new CallerWrites());
+        TransactionSynchronizationManager.initSynchronization();
+        routingDataSource.determineCurrentLookupKey();
+        TransactionSynchronizationManager.clearSynchronization();
+
+        // when
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+
+        // then
+        assertThat(routingDataSource.determineCurrentLookupKey()).isEqualTo("replica");
+    }
+
+    @Test
+    @DisplayName("호출자가 허용 지연 시간 안에 쓰기를 커밋했다고 알려 주면 주 데이터베이스에서 읽는다.")
+    void callerWroteRecently() {
+        // given
+        DataSourceRouting.bind(new CallerWrites(System.currentTimeMillis() - 500));
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+
+        // when & then
+        assertThat(routingDataSource.determineCurrentLookupKey()).isEqualTo("primary");
+    }
+
+    @Test
+    @DisplayName("호출자의 마지막 쓰기가 허용 지연 시간보다 오래되었으면 복제본에서 읽는다.")
+    void callerWroteLongAgo() {
+        // given
+        DataSourceRouting.bind(new CallerWrites(System.currentTimeMillis() - 1500));
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+
+        // when & then
+        assertThat(routingDataSource.determineCurrentLookupKey()).isEqualTo("replica");
+    }
+
+    @Test
+    @DisplayName("요청 밖에서 커밋한 쓰기는 같은 스레드의 이후 읽기를 주 데이터베이스로 보내지 않는다.")
+    void writeOutsideRequest() {
+        // given
+        TransactionSynchronizationManager.initSynchronization();
+        routingDataSource.determineCurrentLookupKey();
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        TransactionSynchronizationManager.clearSynchronization();
+
+        // when
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+
+        // then
+        assertThat(routingDataSource.determineCurrentLookupKey()).isEqualTo("replica");
+    }
+
+    @Test
+    @DisplayName("주 데이터베이스를 지정한 구간에서는 읽기 전용이어도 주 데이터베이스에서 읽는다.")
+    void onPrimary() {
+        // given
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+
+        // when
+        Object key = DataSourceRouting.onPrimary(routingDataSource::determineCurrentLookupKey);
+
+        // then
+        assertThat(key).isEqualTo("primary");
+        assertThat(routingDataSource.determineCurrentLookupKey()).isEqualTo("replica");
+    }
+}
@@ -0,0 +1,90 @@
+package kitchenpos.domain;
+
+import java.math.BigDecimal;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import kitchenpos.money.Money;
+import kitchenpos.money.MoneyConverter;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("Money 단위 테스트")
+class MoneyTest {
+
+    @Test
+    @DisplayName("금액은 소수점 아래 두 자리 단위의 long 값으로 나타낸다.")
+    void ofBigDecimal() {
+        // when
+        Money money = Money.of(new BigDecimal("16000.5"));
+
+        // then
+        assertThat(money.getMinorUnits()).isEqualTo(1_600_050L);
+        assertThat(money).isEqualTo(Money.ofMinorUnits(1_600_050L));
+        assertThat(money.toBigDecimal()).isEqualTo(new BigDecimal("16000.50"));
+    }
+
+    @Test
+    @DisplayName("소수점 아래 세 자리 이상의 금액은 만들 수 없다.")
+    void tooPrecise() {
+        // when & then
+        assertThatThrownBy(() -> Money.of(new BigDecimal("0.001")))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("금액을 더하고 수량만큼 곱할 수 있다.")
+    void plusAndTimes() {
+        // when
+        Money sum = Money.of(17000).times(2).plus(Money.of(16000));
+
+        // then
+        assertThat(sum).isEqualTo(Money.of(50000));
+        assertThat(sum.isGreaterThan(Money.of(49999))).isTrue();
+    }
+
+    @Test
+    @DisplayName("항목별 단가와 수량을 곱한 금액의 합을 구할 수 있다.")
+    void sumOf() {
+        // given
+        List<Money> unitPrices = Arrays.asList(Money.of(17000), Money.of(16000), Money.of(new BigDecimal("0.5")));
+
+        // when
+        Money sum = Money.sumOf(unitPrices, unitPrice -> unitPrice, unitPrice -> 2);
+
+        // then
+        assertThat(sum).isEqualTo(Money.of(66001));
+    }
+
+    @Test
+    @DisplayName("계산 결과가 나타낼 수 있는 범위를 벗어나면 예외가 발생한다.")
+    void overflow() {
+        // when & then
+        assertThatThrownBy(() -> Money.ofMinorUnits(Long.MAX_VALUE).plus(Money.ofMinorUnits(1)))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("금액이 나타낼 수 있는 범위를 벗어났습니다.");
+        assertThatThrownBy(() -> Money.of(Long.MAX_VALUE / 100).times(1000))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("금액이 나타낼 수 있는 범위를 벗어났습니다.");
+        assertThatThrownBy(() -> Money.sumOf(Arrays.asList(Money.ofMinorUnits(Long.MAX_VALUE), Money.ofMinorUnits(1)), unitPrice -> unitPrice, unitPrice -> 1))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("금액이 나타낼 수 있는 범위를 벗어났습니다.");
+    }
+
+    @Test
+    @DisplayName("DECIMAL(19, 2) 컬럼과 금액을 서로 변환한다.")
+    void convert() {
+        // given
+        MoneyConverter converter = new MoneyConverter();
+
+        // when & then
+        assertThat(converter.convertToDatabaseColumn(Money.of(16000))).isEqualTo(new BigDecimal("16000.00"));
+        assertThat(converter.convertToEntityAttribute(new BigDecimal("16000.00"))).isEqualTo(Money.of(16000));
+        assertThat(converter.convertToDatabaseColumn(null)).isNull();
+        assertThat(converter.convertToEntityAttribute(null)).isNull();
+    }
+}
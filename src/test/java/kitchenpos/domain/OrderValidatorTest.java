@@ -0,0 +1,103 @@
+package kitchenpos.domain;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Optional;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import kitchenpos.menu.domain.MenuRepository;
+import kitchenpos.order.domain.OrderMenus;
+import kitchenpos.order.domain.OrderValidator;
+import kitchenpos.table.domain.OrderTableRepository;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import static kitchenpos.fixture.MenuFixture.양념_단품;
+import static kitchenpos.fixture.MenuFixture.이름_가격;
+import static kitchenpos.fixture.MenuFixture.후라이드_단품;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@DisplayName("OrderValidator 단위 테스트")
+@ExtendWith(MockitoExtension.class)
+class OrderValidatorTest {
+
+    @Mock
+    private OrderTableRepository orderTableRepository;
+
+    @Mock
+    private MenuRepository menuRepository;
+
+    @InjectMocks
+    private OrderValidator orderValidator;
+
+    @Test
+    @DisplayName("주문 항목의 메뉴들은 한 번의 조회로 검증한다.")
+    void validateMenus() {
+        // given
+        given(menuRepository.findNamePriceViewsByIdIn(anyCollection())).willReturn(Arrays.asList(이름_가격(후라이드_단품), 이름_가격(양념_단품)));
+
+        // when
+        OrderMenus actual = orderValidator.validateMenus(Arrays.asList(후라이드_단품.getId(), 양념_단품.getId(), 후라이드_단품.getId()));
+
+        // then
+        assertThat(actual.getIds()).containsOnly(후라이드_단품.getId(), 양념_단품.getId());
+        verify(menuRepository, times(1)).findNamePriceViewsByIdIn(anyCollection());
+    }
+
+    @Test
+    @DisplayName("등록되지 않은 메뉴가 있으면 해당 메뉴들을 모두 알려준다.")
+    void validateMenusNotRegister() {
+        // given
+        given(menuRepository.findNamePriceViewsByIdIn(anyCollection())).willReturn(Collections.singletonList(이름_가격(후라이드_단품)));
+
+        // when & then
+        assertThatThrownBy(() -> orderValidator.validateMenus(Arrays.asList(1L, 10L, 11L)))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("등록되지 않은 메뉴는 주문할 수 없습니다. [10, 11]");
+    }
+
+    @Test
+    @DisplayName("주문하려는 테이블은 존재해야 한다.")
+    void validateTableNotExist() {
+        // given
+        given(orderTableRepository.findEmptyById(anyLong())).willReturn(Optional.empty());
+
+        // when & then
+        assertThatThrownBy(() -> orderValidator.validateTable(10L))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("존재하지 않는 테이블은 주문할 수 없습니다.");
+    }
+
+    @Test
+    @DisplayName("주문하려는 테이블은 비어있지 않아야한다.")
+    void validateTableEmpty() {
+        // given
+        given(orderTableRepository.findEmptyById(anyLong())).willReturn(Optional.of(true));
+
+        // when & then
+        assertThatThrownBy(() -> orderValidator.validateTable(1L))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("빈 테이블은 주문할 수 없습니다.");
+    }
+
+    @Test
+    @DisplayName("비어있지 않은 테이블에는 주문할 수 있다.")
+    void validateTable() {
+        // given
+        given(orderTableRepository.findEmptyById(anyLong())).willReturn(Optional.of(false));
+
+        // when & then
+        assertDoesNotThrow(() -> orderValidator.validateTable(1L));
+    }
+}
@@ -57,4 +57,16 @@ class MenuTest {
                 .isInstanceOf(IllegalArgumentException.class)
                 .hasMessage("메뉴의 가격은 비어있을 수 없고 0 이상이어야 합니다.");
     }
+
+    @Test
+    @DisplayName("메뉴의 가격을 음수로 변경할 수 없다.")
+    void changeMinusPrice() {
+        // given
+        Menu menu = new Menu("양념 반 + 후라이드 반", BigDecimal.valueOf(30000), 추천메뉴.getId());
+
+        // when & then
+        assertThatThrownBy(() -> menu.changeNameAndPrice("양념 반 + 후라이드 반", BigDecimal.valueOf(-1)))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("메뉴의 가격은 비어있을 수 없고 0 이상이어야 합니다.");
+    }
 }
@@ -2,8 +2,8 @@ package kitchenpos.domain.menu;
 
 import java.math.BigDecimal;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
-import java.util.Optional;
 
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -13,18 +13,27 @@ import kitchenpos.menu.domain.Menu;
 import kitchenpos.menu.domain.MenuProduct;
 import kitchenpos.menu.domain.MenuValidator;
 import kitchenpos.menugroup.domain.MenuGroupRepository;
+import kitchenpos.money.Money;
+import kitchenpos.product.domain.Product;
 import kitchenpos.product.domain.ProductRepository;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import static kitchenpos.fixture.MenuGroupFixture.추천메뉴;
+import static kitchenpos.fixture.MenuProductFixture.간장치킨_두마리_메뉴상품;
 import static kitchenpos.fixture.MenuProductFixture.양념치킨_한마리_메뉴상품;
 import static kitchenpos.fixture.MenuProductFixture.후라이드치킨_한마리_메뉴상품;
+import static kitchenpos.fixture.ProductFixture.가격;
+import static kitchenpos.fixture.ProductFixture.간장치킨;
 import static kitchenpos.fixture.ProductFixture.양념치킨;
 import static kitchenpos.fixture.ProductFixture.후라이드치킨;
+import static org.assertj.core.api.Assertions.assertThatCode;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyCollection;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 
 @ExtendWith(MockitoExtension.class)
 public class MenuValidatorTest {
@@ -47,12 +56,51 @@ public class MenuValidatorTest {
                 BigDecimal.valueOf(34001),
                 추천메뉴.getId());
         List<MenuProduct> menuProducts = Arrays.asList(후라이드치킨_한마리_메뉴상품, 양념치킨_한마리_메뉴상품); // 후라이드 치킨 17000원, 양념 치킨 17000원
-        given(productRepository.findById(후라이드치킨_한마리_메뉴상품.getProductId())).willReturn(Optional.of(후라이드치킨));
-        given(productRepository.findById(양념치킨_한마리_메뉴상품.getProductId())).willReturn(Optional.of(양념치킨));
+        given(productRepository.findPriceViewsByIdIn(anyCollection())).willReturn(Arrays.asList(가격(후라이드치킨), 가격(양념치킨)));
 
         // when & then
         assertThatThrownBy(() -> menu.addMenuProducts(menuProducts, menuValidator))
                 .isInstanceOf(IllegalArgumentException.class)
                 .hasMessage("메뉴의 가격은 제품 단품의 합보다 클 수 없습니다.");
     }
+
+    @Test
+    @DisplayName("메뉴를 구성하는 상품들의 가격은 한 번의 조회로 가져온다.")
+    void validatePriceWithOneQuery() {
+        // given
+        List<MenuProduct> menuProducts = Arrays.asList(후라이드치킨_한마리_메뉴상품, 양념치킨_한마리_메뉴상품, 간장치킨_두마리_메뉴상품); // 17000원 + 17000원 + 17000원 * 2
+        given(productRepository.findPriceViewsByIdIn(anyCollection())).willReturn(Arrays.asList(가격(후라이드치킨), 가격(양념치킨), 가격(간장치킨)));
+
+        // when & then
+        assertThatCode(() -> menuValidator.validatePrice(menuProducts, Money.of(68000)))
+                .doesNotThrowAnyException();
+        verify(productRepository, times(1)).findPriceViewsByIdIn(anyCollection());
+    }
+
+    @Test
+    @DisplayName("상품 가격의 합이 금액 범위를 넘으면 메뉴 가격과 비교하지 않고 거부한다.")
+    void validatePriceOverflow() {
+        // given
+        Product 비싼치킨 = new Product(5L, "비싼치킨", Money.ofMinorUnits(Long.MAX_VALUE / 2 + 1));
+        List<MenuProduct> menuProducts = Collections.singletonList(new MenuProduct(비싼치킨.getId(), 2));
+        given(productRepository.findPriceViewsByIdIn(anyCollection())).willReturn(Collections.singletonList(가격(비싼치킨)));
+
+        // when & then
+        assertThatThrownBy(() -> menuValidator.validatePrice(menuProducts, Money.ofMinorUnits(Long.MAX_VALUE)))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("금액이 나타낼 수 있는 범위를 벗어났습니다.");
+    }
+
+    @Test
+    @DisplayName("존재하지 않는 상품들은 한 번에 모아서 알려준다.")
+    void validatePriceNotExistProducts() {
+        // given
+        List<MenuProduct> menuProducts = Arrays.asList(후라이드치킨_한마리_메뉴상품, 양념치킨_한마리_메뉴상품, 간장치킨_두마리_메뉴상품);
+        given(productRepository.findPriceViewsByIdIn(anyCollection())).willReturn(Collections.singletonList(가격(후라이드치킨)));
+
+        // when & then
+        assertThatThrownBy(() -> menuValidator.validatePrice(menuProducts, Money.of(17000)))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("상품이 존재하지 않습니다. [2, 3]");
+    }
 }
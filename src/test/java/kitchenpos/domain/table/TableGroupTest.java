@@ -8,9 +8,10 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
 import kitchenpos.table.domain.OrderTable;
+import kitchenpos.table.domain.OrderTables;
 import kitchenpos.table.domain.TableGroup;
 
-import static kitchenpos.fixture.OrderTableFixture.단일_손님0_테이블1;
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 
@@ -23,27 +24,28 @@ class TableGroupTest {
         // given
         TableGroup group = new TableGroup();
         List<OrderTable> orderTables = Arrays.asList(
-                new OrderTable(0, true),
-                new OrderTable(0, true),
-                new OrderTable(0, true)
+                new OrderTable(1L, null, 0, true),
+                new OrderTable(2L, null, 0, true),
+                new OrderTable(3L, null, 0, true)
         );
 
         // when
-        group.addOrderTables(orderTables);
+        group.addOrderTables(OrderTables.of(Arrays.asList(1L, 2L, 3L), orderTables));
         List<OrderTable> results = group.getOrderTableLists();
 
         // then
         assertEquals(3, results.size());
+        assertThat(results).allMatch(orderTable -> orderTable.getTableGroup() == group);
     }
 
     @Test
     @DisplayName("테이블 그룹에 포함하려는 테이블 목록이 둘 미만이면 그룹을 생성할 수 없다.")
     void lessThanTwo() {
         // given
-        TableGroup group = new TableGroup();
+        List<OrderTable> orderTables = Collections.singletonList(new OrderTable(1L, null, 0, true));
 
         // when & then
-        assertThatThrownBy(() -> group.addOrderTables(Collections.singletonList(단일_손님0_테이블1)))
+        assertThatThrownBy(() -> OrderTables.of(Collections.singletonList(1L), orderTables))
                 .isInstanceOf(IllegalArgumentException.class)
                 .hasMessage("그룹을 지정하려면 둘 이상의 테이블이 필요합니다.");
     }
@@ -1,5 +1,6 @@
 package kitchenpos.domain.table;
 
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 
@@ -7,20 +8,23 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 
-import kitchenpos.order.domain.Order;
 import kitchenpos.order.domain.OrderRepository;
+import kitchenpos.order.domain.OrderStatus;
 import kitchenpos.table.domain.OrderTable;
 import kitchenpos.table.domain.TableValidator;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
-import static kitchenpos.fixture.OrderFixture.COOKING_ORDER;
 import static kitchenpos.fixture.TableGroupFixture.GROUP1;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyCollection;
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 
 @ExtendWith(MockitoExtension.class)
 public class TableValidatorTest {
@@ -60,10 +64,9 @@ public class TableValidatorTest {
     @DisplayName("주문 상태가 조리중(COOKING)이나 식사중(MEAL)이라면, 빈(empty) 여부를 수정할 수 없다.")
     void changeEmptyCookingOrMeal() {
         // given
-        List<Order> orders = Collections.singletonList(COOKING_ORDER);
         OrderTable table = new OrderTable(1L, null, 4, false);
 
-        given(orderRepository.findAllByOrderTableId(anyLong())).willReturn(orders);
+        given(orderRepository.existsByOrderTableIdAndOrderStatusIn(anyLong(), anyCollection())).willReturn(true);
 
         // when & then
         assertThatThrownBy(() -> table.changeEmpty(true, validator))
@@ -72,35 +75,26 @@ public class TableValidatorTest {
     }
 
     @Test
-    @DisplayName("그룹을 해제하면 테이블의 그룹이 null이 되고, 비어있지 않게 된다.")
-    void ungroup() {
+    @DisplayName("테이블들 중 하나라도 조리중이나 식사중인 주문이 있으면 한 번의 조회로 거부한다.")
+    void validateOrdersWrongStatus() {
         // given
-        OrderTable table = new OrderTable(1L, null, 4, false);
-
-        // when
-        table.ungroup(validator);
+        List<Long> orderTableIds = Arrays.asList(1L, 2L, 3L);
+        given(orderRepository.existsByOrderTableIdInAndOrderStatusIn(orderTableIds, OrderStatus.inProgress())).willReturn(true);
 
-        // then
-        assertNull(table.getTableGroup());
-        assertFalse(table.isEmpty());
+        // when & then
+        assertThatThrownBy(() -> validator.validateOrders(orderTableIds))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("주문 상태가 조리중이나 식사중입니다.");
+        verify(orderRepository, times(1)).existsByOrderTableIdInAndOrderStatusIn(anyCollection(), anyCollection());
     }
 
     @Test
-    @DisplayName("주문 상태가 조리중이나 식사중이라면 그룹을 해제할 수 없다.")
-    void ungroupWrongStatus() {
-        // given
-        List<Order> orders = Collections.singletonList(COOKING_ORDER);
-        OrderTable table = new OrderTable(
-                1L,
-                null,
-                4,
-                false
-        );
-        given(orderRepository.findAllByOrderTableId(anyLong())).willReturn(orders);
+    @DisplayName("검사할 테이블이 없으면 주문을 조회하지 않는다.")
+    void validateOrdersEmpty() {
+        // when
+        validator.validateOrders(Collections.emptyList());
 
-        // when & then
-        assertThatThrownBy(() -> table.ungroup(validator))
-                .isInstanceOf(IllegalArgumentException.class)
-                .hasMessage("주문 상태가 조리중이나 식사중입니다.");
+        // then
+        verifyNoInteractions(orderRepository);
     }
 }
@@ -5,6 +5,8 @@ import java.util.Arrays;
 import java.util.Collections;
 
 import kitchenpos.menu.domain.Menu;
+import kitchenpos.menu.domain.MenuNamePriceView;
+import kitchenpos.money.Money;
 
 import static kitchenpos.fixture.MenuGroupFixture.신메뉴;
 import static kitchenpos.fixture.MenuGroupFixture.추천메뉴;
@@ -42,4 +44,23 @@ public class MenuFixture {
             신메뉴.getId(),
             Collections.singletonList(간장치킨_두마리_메뉴상품)
     );
+
+    public static MenuNamePriceView 이름_가격(Menu menu) {
+        return new MenuNamePriceView() {
+            @Override
+            public Long getId() {
+                return menu.getId();
+            }
+
+            @Override
+            public String getName() {
+                return menu.getName();
+            }
+
+            @Override
+            public Money getPrice() {
+                return menu.getPrice();
+            }
+        };
+    }
 }
@@ -6,6 +6,6 @@ import static kitchenpos.fixture.MenuFixture.양념반_후라이드반;
 import static kitchenpos.fixture.MenuFixture.후라이드_단품;
 
 public class OrderLineItemFixture {
-    public static OrderLineItem 후라이드_단품_둘 = new OrderLineItem(후라이드_단품.getId(), 2);
-    public static OrderLineItem 양념반_후라이드반_하나 = new OrderLineItem(양념반_후라이드반.getId(), 1);
+    public static OrderLineItem 후라이드_단품_둘 = new OrderLineItem(후라이드_단품.getId(), 후라이드_단품.getName(), 후라이드_단품.getPrice(), 2);
+    public static OrderLineItem 양념반_후라이드반_하나 = new OrderLineItem(양념반_후라이드반.getId(), 양념반_후라이드반.getName(), 양념반_후라이드반.getPrice(), 1);
 }
@@ -1,10 +1,26 @@
 package kitchenpos.fixture;
 
+import kitchenpos.money.Money;
 import kitchenpos.product.domain.Product;
+import kitchenpos.product.domain.ProductPriceView;
 
 public class ProductFixture {
     public static Product 후라이드치킨 = new Product(1L, "후라이드치킨", 17000);
     public static Product 양념치킨 = new Product(2L, "양념치킨", 17000);
     public static Product 간장치킨 = new Product(3L, "간장치킨", 17000);
     public static Product 강정치킨 = new Product(4L, "강정치킨", 16000);
+
+    public static ProductPriceView 가격(Product product) {
+        return new ProductPriceView() {
+            @Override
+            public Long getId() {
+                return product.getId();
+            }
+
+            @Override
+            public Money getPrice() {
+                return product.getPrice();
+            }
+        };
+    }
 }
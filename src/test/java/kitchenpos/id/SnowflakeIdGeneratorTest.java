@@ -0,0 +1,58 @@
+package kitchenpos.id;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.HashSet;
+import java.util.Set;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("SnowflakeIdGenerator 단위 테스트")
+class SnowflakeIdGeneratorTest {
+
+    @Test
+    @DisplayName("생성한 id는 중복되지 않고 계속 증가한다.")
+    void nextId() {
+        // given
+        SnowflakeIdGenerator generator = new SnowflakeIdGenerator(1L);
+        Set<Long> ids = new HashSet<>();
+        long lastId = 0L;
+
+        // when & then
+        for (int i = 0; i < 10_000; i++) {
+            long id = generator.nextId();
+            assertThat(id).isGreaterThan(lastId);
+            ids.add(id);
+            lastId = id;
+        }
+        assertThat(ids).hasSize(10_000);
+    }
+
+    @Test
+    @DisplayName("id에는 생성 시각과 노드 id가 포함된다.")
+    void nextIdContainsTimestampAndNodeId() {
+        // given
+        Instant now = Instant.parse("2021-06-01T00:00:00Z");
+        SnowflakeIdGenerator generator = new SnowflakeIdGenerator(7L, Clock.fixed(now, ZoneOffset.UTC));
+
+        // when
+        long id = generator.nextId();
+
+        // then
+        assertThat(id >>> 22).isEqualTo(now.toEpochMilli() - SnowflakeIdGenerator.EPOCH);
+        assertThat((id >>> 12) & SnowflakeIdGenerator.MAX_NODE_ID).isEqualTo(7L);
+    }
+
+    @Test
+    @DisplayName("노드 id가 범위를 벗어나면 생성할 수 없다.")
+    void wrongNodeId() {
+        assertThatThrownBy(() -> new SnowflakeIdGenerator(1024L))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("노드 id는 0 이상 1023 이하여야 합니다.");
+    }
+}
@@ -0,0 +1,37 @@
+package kitchenpos.integration;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.annotation.Transactional;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import kitchenpos.menugroup.domain.MenuGroup;
+import kitchenpos.menugroup.domain.MenuGroupRepository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("Snowflake id 생성 통합 테스트")
+@SpringBootTest(properties = {
+        "spring.jpa.properties.kitchenpos.id.strategy=snowflake",
+        "spring.jpa.properties.kitchenpos.id.node-id=3"
+})
+@Transactional
+class IdGenerationIntegrationTest {
+
+    @Autowired
+    private MenuGroupRepository menuGroupRepository;
+
+    @Test
+    @DisplayName("snowflake 전략을 사용하면 노드 id가 포함된 시간 기반 id로 저장된다.")
+    void snowflake() {
+        // when
+        MenuGroup first = menuGroupRepository.save(new MenuGroup("치킨 메뉴"));
+        MenuGroup second = menuGroupRepository.save(new MenuGroup("사이드 메뉴"));
+
+        // then
+        assertThat(second.getId()).isGreaterThan(first.getId());
+        assertThat((first.getId() >>> 12) & 1023L).isEqualTo(3L);
+    }
+}
@@ -0,0 +1,115 @@
+package kitchenpos.integration;
+
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Transactional;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import kitchenpos.menu.domain.MenuVersionRepository;
+import kitchenpos.order.domain.OrderIdempotencyKeyRepository;
+import kitchenpos.order.domain.OrderRepository;
+import kitchenpos.order.domain.OrderStatus;
+import kitchenpos.support.CapturingStatementInspector;
+import kitchenpos.table.domain.OrderTableRepository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("인덱스 통합 테스트")
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.session_factory.statement_inspector=kitchenpos.support.CapturingStatementInspector")
+@Transactional
+class IndexIntegrationTest {
+    private static final List<OrderStatus> IN_PROGRESS = Arrays.asList(OrderStatus.COOKING, OrderStatus.MEAL);
+    private static final LocalDateTime FROM = LocalDateTime.of(2021, 3, 1, 0, 0);
+    private static final LocalDateTime TO = LocalDateTime.of(2021, 3, 2, 0, 0);
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @Autowired
+    private OrderTableRepository orderTableRepository;
+
+    @Autowired
+    private MenuVersionRepository menuVersionRepository;
+
+    @Autowired
+    private OrderIdempotencyKeyRepository idempotencyKeyRepository;
+
+    static Stream<Arguments> repositoryQueries() {
+        return Stream.of(
+                query("OrderRepository.findAllByOrderTableId", test -> test.orderRepository.findAllByOrderTableId(1L)),
+                query("OrderRepository.existsByOrderTableIdAndOrderStatusIn", test -> test.orderRepository.existsByOrderTableIdAndOrderStatusIn(1L, IN_PROGRESS)),
+                query("OrderRepository.existsByOrderTableIdInAndOrderStatusIn", test -> test.orderRepository.existsByOrderTableIdInAndOrderStatusIn(Arrays.asList(1L, 2L), IN_PROGRESS)),
+                query("OrderRepository.findIdsAfter", test -> test.orderRepository.findIdsAfter(0L, null, null, null, null, PageRequest.of(0, 21))),
+                query("OrderRepository.findIdsAfter (테이블)", test -> test.orderRepository.findIdsAfter(0L, null, 1L, null, null, PageRequest.of(0, 21))),
+                query("OrderRepository.findIdsAfter (주문 상태)", test -> test.orderRepository.findIdsAfter(0L, OrderStatus.COOKING, null, null, null, PageRequest.of(0, 21))),
+                query("OrderRepository.findIdsAfter (조건 모두 지정)", test -> test.orderRepository.findIdsAfter(0L, OrderStatus.COOKING, 1L, FROM, TO, PageRequest.of(0, 21))),
+                query("OrderRepository.findAllWithOrderLineItemsByIdIn", test -> test.orderRepository.findAllWithOrderLineItemsByIdIn(Arrays.asList(1L, 2L))),
+                query("OrderRepository.findWithOrderLineItemsById", test -> test.orderRepository.findWithOrderLineItemsById(1L)),
+                query("OrderRepository.streamAll", test -> test.orderRepository.streamAll(null, null, null).forEach(order -> { })),
+                query("OrderRepository.streamAll (주문 시각 범위)", test -> test.orderRepository.streamAll(null, FROM, TO).forEach(order -> { })),
+                query("OrderRepository.streamAll (조건 모두 지정)", test -> test.orderRepository.streamAll(OrderStatus.MEAL, FROM, TO).forEach(order -> { })),
+                query("OrderTableRepository.findEmptyById", test -> test.orderTableRepository.findEmptyById(1L)),
+                query("OrderTableRepository.findEmptyViewsByIdIn", test -> test.orderTableRepository.findEmptyViewsByIdIn(Arrays.asList(1L, 2L))),
+                query("OrderTableRepository.findIdsByTableGroupId", test -> test.orderTableRepository.findIdsByTableGroupId(1L)),
+                query("OrderTableRepository.ungroupAllByTableGroupId", test -> test.orderTableRepository.ungroupAllByTableGroupId(1L)),
+                query("MenuVersionRepository.findCurrent", test -> test.menuVersionRepository.findCurrent(1L)),
+                query("MenuVersionRepository.findAt", test -> test.menuVersionRepository.findAt(1L, FROM)),
+                query("OrderIdempotencyKeyRepository.findById", test -> test.idempotencyKeyRepository.findById("terminal-1-0001")),
+                query("OrderIdempotencyKeyRepository.deleteAllCreatedAtOrBefore", test -> test.idempotencyKeyRepository.deleteAllCreatedAtOrBefore(FROM))
+        );
+    }
+
+    private static Arguments query(String name, Consumer<IndexIntegrationTest> query) {
+        return Arguments.of(name, query);
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @MethodSource("repositoryQueries")
+    @DisplayName("저장소가 실행하는 쿼리는 테이블 전체를 읽지 않고 인덱스를 사용한다.")
+    void useIndex(String name, Consumer<IndexIntegrationTest> query) {
+        // given
+        List<String> statements = CapturingStatementInspector.capture(() -> query.accept(this));
+
+        // when & then
+        assertThat(statements).as(name).isNotEmpty();
+        statements.forEach(sql -> assertThat(explain(sql)).as(sql).doesNotContain("tableScan"));
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @MethodSource("keysetQueries")
+    @DisplayName("조건으로 거른 주문 목록은 조건 컬럼과 id 로 만든 인덱스에서 커서 다음 id 를 읽는다.")
+    void useKeysetIndex(String name, Consumer<IndexIntegrationTest> query, String index) {
+        // given
+        List<String> statements = CapturingStatementInspector.capture(() -> query.accept(this));
+
+        // when & then
+        assertThat(statements).as(name).hasSize(1);
+        assertThat(explain(statements.get(0))).as(name).containsIgnoringCase(index);
+    }
+
+    static Stream<Arguments> keysetQueries() {
+        return Stream.of(
+                Arguments.of("테이블", (Consumer<IndexIntegrationTest>) test -> test.orderRepository.findIdsAfter(0L, null, 1L, null, null, PageRequest.of(0, 21)), "idx_orders_order_table_id_id"),
+                Arguments.of("주문 상태", (Consumer<IndexIntegrationTest>) test -> test.orderRepository.findIdsAfter(0L, OrderStatus.COOKING, null, null, null, PageRequest.of(0, 21)), "idx_orders_order_status_id")
+        );
+    }
+
+    private String explain(String sql) {
+        return jdbcTemplate.queryForObject("EXPLAIN " + sql, String.class);
+    }
+}
@@ -0,0 +1,216 @@
+package kitchenpos.integration;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import kitchenpos.event.EventExecutorConfig;
+import kitchenpos.menu.application.MenuCatalog;
+import kitchenpos.menu.application.MenuService;
+import kitchenpos.menu.domain.Menu;
+import kitchenpos.menu.domain.MenuRepository;
+import kitchenpos.menu.ui.request.ChangeNamePriceRequest;
+import kitchenpos.menu.ui.response.MenuResponse;
+import kitchenpos.menugroup.domain.MenuGroup;
+import kitchenpos.menugroup.domain.MenuGroupRepository;
+
+import static kitchenpos.support.QueryBudget.atMost;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.fail;
+
+@DisplayName("메뉴 목록 스냅샷 통합 테스트")
+@SpringBootTest
+class MenuCatalogIntegrationTest {
+
+    @Autowired
+    private MenuGroupRepository menuGroupRepository;
+
+    @Autowired
+    private MenuRepository menuRepository;
+
+    @Autowired
+    private MenuService menuService;
+
+    @Autowired
+    private MenuCatalog menuCatalog;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    @Qualifier(EventExecutorConfig.EVENT_TASK_EXECUTOR)
+    private ThreadPoolTaskExecutor eventTaskExecutor;
+
+    private MenuGroup menuGroup;
+    private Menu menu;
+
+    @BeforeEach
+    void setUp() {
+        menuGroup = menuGroupRepository.save(new MenuGroup("치킨 메뉴"));
+        menu = menuRepository.save(new Menu("후라이드 set", BigDecimal.valueOf(13000), menuGroup.getId()));
+        menuCatalog.rebuild();
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.update("delete from menu_version where menu_id = ?", menu.getId());
+        jdbcTemplate.update("delete from menu where id = ?", menu.getId());
+        jdbcTemplate.update("delete from menu_group where id = ?", menuGroup.getId());
+        menuCatalog.rebuild();
+    }
+
+    @Test
+    @DisplayName("전체 메뉴 조회는 데이터베이스에 접근하지 않고 스냅샷에서 응답한다.")
+    void listWithoutQuery() {
+        // when
+        String json = atMost(0, this::메뉴_목록_JSON);
+
+        // then
+        assertThat(json).contains("후라이드 set");
+        assertThat(atMost(0, menuService::list)).extracting(MenuResponse::getId).contains(menu.getId());
+    }
+
+    @Test
+    @DisplayName("메뉴 변경이 커밋되면 스냅샷을 다시 만든다.")
+    void rebuildAfterCommit() {
+        // when
+        menuService.changeNamePrice(menu.getId(), new ChangeNamePriceRequest("New 후라이드 set", BigDecimal.valueOf(15000)));
+
+        // then
+        awaitUntil(() -> 메뉴_이름(menu.getId()).equals("New 후라이드 set"));
+        assertThat(메뉴_목록_JSON()).contains("New 후라이드 set")
+                               .doesNotContain("\"후라이드 set\"");
+    }
+
+    @Test
+    @DisplayName("메뉴 변경을 커밋한 노드는 스냅샷을 다시 만들기 전이라도 바로 변경된 목록으로 응답한다.")
+    void readOwnChangeBeforeRebuild() {
+        // given
+        CountDownLatch release = new CountDownLatch(1);
+        for (int i = 0; i < eventTaskExecutor.getCorePoolSize(); i++) {
+            eventTaskExecutor.execute(() -> await(release));
+        }
+
+        // when
+        try {
+            menuService.changeNamePrice(menu.getId(), new ChangeNamePriceRequest("New 후라이드 set", BigDecimal.valueOf(15000)));
+
+            // then
+            assertThat(menuCatalog.isStale()).isTrue();
+            assertThat(메뉴_이름(menu.getId())).isEqualTo("New 후라이드 set");
+            assertThat(menuCatalog.isStale()).isFalse();
+        } finally {
+            release.countDown();
+        }
+    }
+
+    @Test
+    @DisplayName("다른 노드에서 메뉴 버전이 추가되면, 더 작은 id 로 추가되었더라도 주기적인 확인에서 스냅샷을 다시 만든다.")
+    void refreshWhenChangedOnAnotherNode() {
+        // given
+        jdbcTemplate.update("update menu set name = ? where id = ?", "다른 노드 후라이드 set", menu.getId());
+        jdbcTemplate.update(
+                "insert into menu_version (id, menu_id, name, price, effective_from) " +
+                        "select coalesce(min(id), 0) - 1, ?, ?, ?, current_timestamp() from menu_version",
+                menu.getId(), "다른 노드 후라이드 set", BigDecimal.valueOf(13000)
+        );
+
+        // when
+        menuCatalog.refresh();
+
+        // then
+        assertThat(메뉴_이름(menu.getId())).isEqualTo("다른 노드 후라이드 set");
+    }
+
+    @Test
+    @DisplayName("메뉴 버전이 그대로면 주기적인 확인은 버전만 읽고 스냅샷을 다시 만들지 않는다.")
+    void notRefreshWhenUnchanged() {
+        // when
+        atMost(1, menuCatalog::refresh);
+
+        // then
+        assertThat(메뉴_이름(menu.getId())).isEqualTo("후라이드 set");
+    }
+
+    @Test
+    @DisplayName("메뉴 변경이 롤백되면 스냅샷을 다시 만들지 않는다.")
+    void notRebuildWhenRolledBack() {
+        // given
+        long submitted = eventTaskExecutor.getThreadPoolExecutor().getTaskCount();
+
+        // when
+        new TransactionTemplate(transactionManager).execute(status -> {
+            menuService.changeNamePrice(menu.getId(), new ChangeNamePriceRequest("New 후라이드 set", BigDecimal.valueOf(15000)));
+            status.setRollbackOnly();
+            return null;
+        });
+
+        // then
+        assertThat(eventTaskExecutor.getThreadPoolExecutor().getTaskCount()).isEqualTo(submitted);
+        assertThat(메뉴_이름(menu.getId())).isEqualTo("후라이드 set");
+    }
+
+    // 이벤트 처리 스레드를 모두 붙잡아 두어 스냅샷 재구성이 대기열에서 기다리게 한다.
+    private void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private String 메뉴_목록_JSON() {
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        try {
+            menuService.writeJson(outputStream);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return new String(outputStream.toByteArray(), StandardCharsets.UTF_8);
+    }
+
+    private String 메뉴_이름(Long menuId) {
+        return menuService.list()
+                          .stream()
+                          .filter(response -> response.getId().equals(menuId))
+                          .map(MenuResponse::getName)
+                          .findFirst()
+                          .orElseThrow(IllegalStateException::new);
+    }
+
+    private void awaitUntil(BooleanSupplier condition) {
+        long deadline = System.currentTimeMillis() + 5_000;
+        while (!condition.getAsBoolean()) {
+            if (System.currentTimeMillis() > deadline) {
+                fail("이벤트 처리가 제한 시간 안에 끝나지 않았습니다.");
+            }
+            try {
+                Thread.sleep(20);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                fail("이벤트 처리를 기다리는 중 중단되었습니다.");
+            }
+        }
+    }
+}
@@ -0,0 +1,164 @@
+package kitchenpos.integration;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Collections;
+import javax.persistence.EntityManager;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.annotation.Transactional;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import kitchenpos.menu.application.MenuService;
+import kitchenpos.menu.domain.Menu;
+import kitchenpos.menu.domain.MenuRepository;
+import kitchenpos.menu.domain.MenuVersion;
+import kitchenpos.menu.domain.MenuVersionRepository;
+import kitchenpos.menu.ui.request.ChangeNamePriceRequest;
+import kitchenpos.menu.ui.response.MenuVersionResponse;
+import kitchenpos.menugroup.domain.MenuGroup;
+import kitchenpos.menugroup.domain.MenuGroupRepository;
+import kitchenpos.order.application.OrderService;
+import kitchenpos.order.domain.OrderRepository;
+import kitchenpos.order.ui.request.CreateOrderRequest;
+import kitchenpos.order.ui.request.OrderLineItemRequest;
+import kitchenpos.order.ui.response.CreateOrderResponse;
+import kitchenpos.order.ui.response.OrderLineItemResponse;
+import kitchenpos.order.ui.response.OrderResponse;
+import kitchenpos.table.domain.OrderTable;
+import kitchenpos.table.domain.OrderTableRepository;
+
+import static kitchenpos.support.QueryBudget.atMost;
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("메뉴 변경 통합 테스트")
+@SpringBootTest
+@Transactional
+class MenuChangeIntegrationTest {
+
+    @Autowired
+    private OrderTableRepository orderTableRepository;
+
+    @Autowired
+    private MenuGroupRepository menuGroupRepository;
+
+    @Autowired
+    private MenuRepository menuRepository;
+
+    @Autowired
+    private MenuVersionRepository menuVersionRepository;
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @Autowired
+    private MenuService menuService;
+
+    @Autowired
+    private OrderService orderService;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private Menu originalMenu;
+    private MenuVersion originalVersion;
+    private OrderTable table;
+
+    @BeforeEach
+    void setUp() {
+        MenuGroup menuGroup = menuGroupRepository.save(new MenuGroup("치킨 메뉴"));
+        originalMenu = menuRepository.save(new Menu("Old 후라이드 set", BigDecimal.valueOf(13000), menuGroup.getId()));
+        originalVersion = menuVersionRepository.save(MenuVersion.of(originalMenu, LocalDateTime.now().minusDays(1)));
+        table = orderTableRepository.save(new OrderTable(4, false));
+    }
+
+    @Test
+    @DisplayName("메뉴(Menu)의 이름, 가격을 변경해도 변경 전 주문 항목(OrderLineItem)의 메뉴 이름, 가격은 변경되지 않는다.")
+    void notAffectBeforeChangeMenu() {
+        // given
+        CreateOrderResponse order = 주문_생성();
+
+        // when
+        menuService.changeNamePrice(originalMenu.getId(), new ChangeNamePriceRequest("New 후라이드 set", BigDecimal.valueOf(15000)));
+        entityManager.flush();
+        entityManager.clear();
+
+        // then
+        OrderLineItemResponse orderLineItem = OrderResponse.from(orderRepository.findById(order.getId()).get())
+                                                           .getOrderLineItems()
+                                                           .get(0);
+        assertThat(orderLineItem.getMenuId()).isEqualTo(originalMenu.getId());
+        assertThat(orderLineItem.getMenuName()).isEqualTo("Old 후라이드 set");
+        assertThat(orderLineItem.getMenuPrice()).isEqualByComparingTo(BigDecimal.valueOf(13000));
+    }
+
+    @Test
+    @DisplayName("메뉴를 변경한 뒤 등록한 주문 항목에는 변경된 메뉴 이름, 가격이 저장된다.")
+    void snapshotChangedMenu() {
+        // given
+        menuService.changeNamePrice(originalMenu.getId(), new ChangeNamePriceRequest("New 후라이드 set", BigDecimal.valueOf(15000)));
+
+        // when
+        OrderLineItemResponse orderLineItem = 주문_생성().getOrderLineItems().get(0);
+
+        // then
+        assertThat(orderLineItem.getMenuName()).isEqualTo("New 후라이드 set");
+        assertThat(orderLineItem.getMenuPrice()).isEqualByComparingTo(BigDecimal.valueOf(15000));
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 30})
+    @DisplayName("메뉴를 변경할 때 실행되는 쿼리 수는 지난 주문 수와 관계없이 일정하다.")
+    void changeNamePriceWithConstantQueries(int numberOfOrders) {
+        // given
+        for (int i = 0; i < numberOfOrders; i++) {
+            주문_생성();
+        }
+        long numberOfMenus = menuRepository.count();
+        entityManager.flush();
+        entityManager.clear();
+
+        // when
+        atMost(3, () -> {
+            menuService.changeNamePrice(originalMenu.getId(), new ChangeNamePriceRequest("New 후라이드 set", BigDecimal.valueOf(15000)));
+            entityManager.flush();
+        });
+
+        // then
+        assertThat(menuRepository.count()).isEqualTo(numberOfMenus);
+    }
+
+    @Test
+    @DisplayName("메뉴를 변경하면 새 버전이 추가되고, 변경 전 시점의 버전과 현재 버전을 각각 조회할 수 있다.")
+    void findVersions() {
+        // given
+        LocalDateTime beforeChange = LocalDateTime.now().minusHours(1);
+
+        // when
+        menuService.changeNamePrice(originalMenu.getId(), new ChangeNamePriceRequest("New 후라이드 set", BigDecimal.valueOf(15000)));
+        entityManager.flush();
+        entityManager.clear();
+
+        // then
+        MenuVersionResponse before = atMost(1, () -> menuService.findVersion(originalMenu.getId(), beforeChange));
+        MenuVersionResponse current = atMost(1, () -> menuService.findVersion(originalMenu.getId(), null));
+        assertThat(before.getId()).isEqualTo(originalVersion.getId());
+        assertThat(before.getName()).isEqualTo("Old 후라이드 set");
+        assertThat(current.getName()).isEqualTo("New 후라이드 set");
+        assertThat(current.getPrice()).isEqualByComparingTo(BigDecimal.valueOf(15000));
+        assertThat(menuVersionRepository.findById(originalVersion.getId()).get().getName()).isEqualTo("Old 후라이드 set");
+    }
+
+    private CreateOrderResponse 주문_생성() {
+        return orderService.create(new CreateOrderRequest(
+                table.getId(),
+                Collections.singletonList(new OrderLineItemRequest(originalMenu.getId(), 1))
+        ));
+    }
+}
@@ -0,0 +1,148 @@
+package kitchenpos.integration;
+
+import java.util.Collections;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.annotation.Transactional;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+import kitchenpos.metrics.QueryCountFilter;
+import kitchenpos.metrics.ServiceTimingInterceptor;
+import kitchenpos.metrics.ValidationRejectionInterceptor;
+import kitchenpos.order.application.OrderService;
+import kitchenpos.order.ui.request.CreateOrderRequest;
+import kitchenpos.order.ui.request.CreateOrdersRequest;
+import kitchenpos.order.ui.request.OrderLineItemRequest;
+import kitchenpos.order.ui.response.CreateOrderResultResponse;
+import kitchenpos.order.ui.response.CreateOrdersResponse;
+import kitchenpos.product.application.ProductService;
+import kitchenpos.table.domain.OrderTable;
+import kitchenpos.table.domain.OrderTableRepository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@DisplayName("Metrics 통합 테스트")
+@SpringBootTest
+@AutoConfigureMockMvc
+@Transactional
+class MetricsIntegrationTest {
+    private static final Long NOT_EXIST_TABLE_ID = Long.MAX_VALUE;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private ProductService productService;
+
+    @Autowired
+    private OrderService orderService;
+
+    @Autowired
+    private OrderTableRepository orderTableRepository;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Test
+    @DisplayName("서비스 작업마다 백분위를 계산하는 타이머에 처리 시간을 기록한다.")
+    void serviceTimer() {
+        // given
+        long before = timerCount("ProductService", "list", "none");
+
+        // when
+        productService.list();
+
+        // then
+        Timer timer = timer("ProductService", "list", "none");
+        assertThat(timer.count()).isEqualTo(before + 1);
+        assertThat(timer.takeSnapshot().percentileValues()).isNotEmpty();
+    }
+
+    @Test
+    @DisplayName("검증에서 거절되면 거절 횟수를 세고, 서비스 타이머에는 예외 종류를 남긴다.")
+    void validationRejected() {
+        // given
+        long rejectedBefore = rejectedCount("OrderValidator", "validateTable");
+        long timerBefore = timerCount("OrderService", "create", "IllegalArgumentException");
+
+        // when & then
+        assertThatThrownBy(() -> orderService.create(new CreateOrderRequest(NOT_EXIST_TABLE_ID, Collections.emptyList())))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThat(rejectedCount("OrderValidator", "validateTable")).isEqualTo(rejectedBefore + 1);
+        assertThat(timerCount("OrderService", "create", "IllegalArgumentException")).isEqualTo(timerBefore + 1);
+    }
+
+    @Test
+    @DisplayName("일괄 주문 검증에서 거절된 주문도 거절 횟수에 포함한다.")
+    void batchValidationRejected() {
+        // given
+        long before = rejectedCount("OrderBatchValidator", "validate");
+
+        // when
+        CreateOrdersResponse response = orderService.createAll(new CreateOrdersRequest(Collections.singletonList(
+                new CreateOrderRequest(NOT_EXIST_TABLE_ID, Collections.singletonList(new OrderLineItemRequest(1L, 1)))
+        )));
+
+        // then
+        assertThat(response.getResults()).extracting(CreateOrderResultResponse::isSuccess).containsExactly(false);
+        assertThat(rejectedCount("OrderBatchValidator", "validate")).isEqualTo(before + 1);
+    }
+
+    @Test
+    @DisplayName("요청마다 실행한 SQL 수와 시간을 메트릭과 응답 헤더로 남긴다.")
+    void sqlPerRequest() throws Exception {
+        // given
+        orderTableRepository.saveAndFlush(new OrderTable(4, false));
+        long before = statementsCount("/api/tables");
+
+        // when & then
+        mockMvc.perform(get("/api/tables"))
+               .andExpect(status().isOk())
+               .andExpect(header().string(QueryCountFilter.COUNT_HEADER, "1"))
+               .andExpect(header().exists(QueryCountFilter.TIME_HEADER));
+        assertThat(statementsCount("/api/tables")).isEqualTo(before + 1);
+    }
+
+    private long statementsCount(String uri) {
+        DistributionSummary summary = meterRegistry.find("kitchenpos.http.sql.statements")
+                                                   .tag("method", "GET")
+                                                   .tag("uri", uri)
+                                                   .summary();
+        return summary == null ? 0 : summary.count();
+    }
+
+    private Timer timer(String className, String method, String exception) {
+        return meterRegistry.find(ServiceTimingInterceptor.METRIC_NAME)
+                            .tag("class", className)
+                            .tag("method", method)
+                            .tag("exception", exception)
+                            .timer();
+    }
+
+    private long timerCount(String className, String method, String exception) {
+        Timer timer = timer(className, method, exception);
+        return timer == null ? 0 : timer.count();
+    }
+
+    private long rejectedCount(String validator, String method) {
+        Counter counter = meterRegistry.find(ValidationRejectionInterceptor.METRIC_NAME)
+                                       .tag("validator", validator)
+                                       .tag("method", method)
+                                       .counter();
+        return counter == null ? 0 : (long) counter.count();
+    }
+}
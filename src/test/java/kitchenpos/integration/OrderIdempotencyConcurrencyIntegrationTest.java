@@ -0,0 +1,214 @@
+package kitchenpos.integration;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import javax.persistence.EntityManager;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import kitchenpos.menu.domain.Menu;
+import kitchenpos.menu.domain.MenuRepository;
+import kitchenpos.menugroup.domain.MenuGroup;
+import kitchenpos.menugroup.domain.MenuGroupRepository;
+import kitchenpos.order.application.IdempotentOrderService;
+import kitchenpos.order.application.OrderIdempotencyStore;
+import kitchenpos.order.application.OrderRequestHash;
+import kitchenpos.order.domain.Order;
+import kitchenpos.order.domain.OrderRepository;
+import kitchenpos.order.ui.request.CreateOrderRequest;
+import kitchenpos.order.ui.request.OrderLineItemRequest;
+import kitchenpos.order.ui.response.CreateOrderResponse;
+import kitchenpos.table.domain.OrderTable;
+import kitchenpos.table.domain.OrderTableRepository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("주문 멱등 키 동시 요청 통합 테스트")
+@SpringBootTest
+class OrderIdempotencyConcurrencyIntegrationTest {
+    private static final String REQUEST_HASH = "request-hash";
+    private static final long TIMEOUT_SECONDS = 10;
+
+    private final ExecutorService otherThread = Executors.newSingleThreadExecutor();
+
+    @Autowired
+    private OrderTableRepository orderTableRepository;
+
+    @Autowired
+    private MenuGroupRepository menuGroupRepository;
+
+    @Autowired
+    private MenuRepository menuRepository;
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private IdempotentOrderService idempotentOrderService;
+
+    @Autowired
+    private OrderIdempotencyStore store;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private TransactionTemplate transactionTemplate;
+    private OrderTable table;
+    private CreateOrderRequest request;
+
+    @BeforeEach
+    void setUp() {
+        transactionTemplate = new TransactionTemplate(transactionManager);
+        MenuGroup 치킨_메뉴 = menuGroupRepository.save(new MenuGroup("치킨 메뉴"));
+        Menu menu = menuRepository.save(new Menu("후라이드 set", BigDecimal.valueOf(13000), 치킨_메뉴.getId()));
+        table = orderTableRepository.save(new OrderTable(4, false));
+        request = new CreateOrderRequest(table.getId(), Collections.singletonList(new OrderLineItemRequest(menu.getId(), 1)));
+    }
+
+    @AfterEach
+    void tearDown() {
+        otherThread.shutdownNow();
+    }
+
+    @Test
+    @DisplayName("같은 멱등 키의 두 요청이 모두 키를 찾지 못하면 나중에 커밋하는 요청이 커밋 시점에 데이터 무결성 예외로 롤백된다.")
+    void commitConflict() throws Exception {
+        // given
+        String idempotencyKey = UUID.randomUUID().toString();
+        CountDownLatch firstCreated = new CountDownLatch(1);
+        CountDownLatch secondCommitted = new CountDownLatch(1);
+        Future<CreateOrderResponse> first = otherThread.submit(() -> transactionTemplate.execute(status -> {
+            CreateOrderResponse response = store.create(idempotencyKey, REQUEST_HASH, request);
+            firstCreated.countDown();
+            await(secondCommitted);
+            return response;
+        }));
+        await(firstCreated);
+
+        // when
+        CreateOrderResponse second = store.create(idempotencyKey, REQUEST_HASH, request);
+        secondCommitted.countDown();
+
+        // then
+        assertThatThrownBy(() -> first.get(TIMEOUT_SECONDS, TimeUnit.SECONDS))
+                .isInstanceOf(ExecutionException.class)
+                .hasCauseInstanceOf(DataIntegrityViolationException.class);
+        assertThat(orderRepository.findAllByOrderTableId(table.getId())).extracting(Order::getId)
+                                                                        .containsExactly(second.getId());
+    }
+
+    @Test
+    @DisplayName("먼저 저장한 같은 멱등 키가 커밋되면 나중 요청은 주문을 등록하지 않고 먼저 커밋된 주문으로 응답한다.")
+    void respondWithCommittedOrder() throws Exception {
+        // given
+        String idempotencyKey = UUID.randomUUID().toString();
+        CountDownLatch firstFlushed = new CountDownLatch(1);
+        CountDownLatch secondBlocked = new CountDownLatch(1);
+        AtomicReference<CreateOrderResponse> first = new AtomicReference<>();
+        Thread firstThread = new Thread(() -> transactionTemplate.executeWithoutResult(status -> {
+            first.set(store.create(idempotencyKey, OrderRequestHash.of(request), request));
+            entityManager.flush();
+            firstFlushed.countDown();
+            await(secondBlocked);
+        }));
+        firstThread.start();
+        await(firstFlushed);
+
+        // when
+        AtomicReference<Thread> secondThread = new AtomicReference<>();
+        Future<CreateOrderResponse> second = otherThread.submit(() -> {
+            secondThread.set(Thread.currentThread());
+            return idempotentOrderService.create(idempotencyKey, request);
+        });
+        awaitBlocked(secondThread);
+        secondBlocked.countDown();
+        firstThread.join(TimeUnit.SECONDS.toMillis(TIMEOUT_SECONDS));
+
+        // then
+        assertThat(second.get(TIMEOUT_SECONDS, TimeUnit.SECONDS).getId()).isEqualTo(first.get().getId());
+        assertThat(orderRepository.findAllByOrderTableId(table.getId())).extracting(Order::getId)
+                                                                        .containsExactly(first.get().getId());
+    }
+
+    @Test
+    @DisplayName("보관 기간이 지난 같은 멱등 키로 동시에 요청하면 하나만 새 주문을 등록하고 다른 요청은 그 주문으로 응답한다.")
+    void renewConcurrently() throws Exception {
+        // given
+        String idempotencyKey = UUID.randomUUID().toString();
+        CreateOrderResponse expired = store.create(idempotencyKey, REQUEST_HASH, request);
+        jdbcTemplate.update("update order_idempotency_key set created_at = ? where idempotency_key = ?",
+                LocalDateTime.now().minusDays(2), idempotencyKey);
+        CountDownLatch firstRenewed = new CountDownLatch(1);
+        CountDownLatch secondBlocked = new CountDownLatch(1);
+        AtomicReference<CreateOrderResponse> first = new AtomicReference<>();
+        Thread firstThread = new Thread(() -> transactionTemplate.executeWithoutResult(status -> {
+            first.set(store.create(idempotencyKey, REQUEST_HASH, request));
+            firstRenewed.countDown();
+            await(secondBlocked);
+        }));
+        firstThread.start();
+        await(firstRenewed);
+
+        // when
+        AtomicReference<Thread> secondThread = new AtomicReference<>();
+        Future<CreateOrderResponse> second = otherThread.submit(() -> {
+            secondThread.set(Thread.currentThread());
+            return store.create(idempotencyKey, REQUEST_HASH, request);
+        });
+        awaitBlocked(secondThread);
+        secondBlocked.countDown();
+        firstThread.join(TimeUnit.SECONDS.toMillis(TIMEOUT_SECONDS));
+
+        // then
+        assertThat(second.get(TIMEOUT_SECONDS, TimeUnit.SECONDS).getId()).isEqualTo(first.get().getId());
+        assertThat(orderRepository.findAllByOrderTableId(table.getId())).extracting(Order::getId)
+                                                                        .containsExactlyInAnyOrder(expired.getId(), first.get().getId());
+    }
+
+    private void await(CountDownLatch latch) {
+        try {
+            assertThat(latch.await(TIMEOUT_SECONDS, TimeUnit.SECONDS)).isTrue();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+    }
+
+    // 다른 트랜잭션이 잡은 행을 기다리는 동안 H2 는 스레드를 시간 제한을 두고 대기시킨다.
+    private void awaitBlocked(AtomicReference<Thread> thread) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(1);
+        while (System.nanoTime() < deadline) {
+            Thread current = thread.get();
+            if (current != null && current.getState() == Thread.State.TIMED_WAITING) {
+                return;
+            }
+            Thread.sleep(10);
+        }
+    }
+}
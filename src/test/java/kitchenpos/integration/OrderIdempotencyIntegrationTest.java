@@ -0,0 +1,191 @@
+package kitchenpos.integration;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.UUID;
+import javax.persistence.EntityManager;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.annotation.Transactional;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import kitchenpos.menu.domain.Menu;
+import kitchenpos.menu.domain.MenuRepository;
+import kitchenpos.menugroup.domain.MenuGroup;
+import kitchenpos.menugroup.domain.MenuGroupRepository;
+import kitchenpos.order.application.IdempotentOrderService;
+import kitchenpos.order.application.OrderIdempotencyStore;
+import kitchenpos.order.domain.OrderIdempotencyKey;
+import kitchenpos.order.domain.OrderIdempotencyKeyRepository;
+import kitchenpos.order.domain.OrderRepository;
+import kitchenpos.order.ui.request.CreateOrderRequest;
+import kitchenpos.order.ui.request.OrderLineItemRequest;
+import kitchenpos.order.ui.response.CreateOrderResponse;
+import kitchenpos.table.domain.OrderTable;
+import kitchenpos.table.domain.OrderTableRepository;
+
+import static kitchenpos.support.QueryBudget.atMost;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("주문 멱등 키 통합 테스트")
+@SpringBootTest
+@Transactional
+class OrderIdempotencyIntegrationTest {
+    private static final String REQUEST_HASH = "request-hash";
+
+    @Autowired
+    private OrderTableRepository orderTableRepository;
+
+    @Autowired
+    private MenuGroupRepository menuGroupRepository;
+
+    @Autowired
+    private MenuRepository menuRepository;
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @Autowired
+    private OrderIdempotencyKeyRepository idempotencyKeyRepository;
+
+    @Autowired
+    private IdempotentOrderService idempotentOrderService;
+
+    @Autowired
+    private OrderIdempotencyStore store;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private OrderTable table;
+    private CreateOrderRequest request;
+
+    @BeforeEach
+    void setUp() {
+        MenuGroup 치킨_메뉴 = menuGroupRepository.save(new MenuGroup("치킨 메뉴"));
+        Menu menu = menuRepository.save(new Menu("후라이드 set", BigDecimal.valueOf(13000), 치킨_메뉴.getId()));
+        table = orderTableRepository.save(new OrderTable(4, false));
+        request = new CreateOrderRequest(table.getId(), Collections.singletonList(new OrderLineItemRequest(menu.getId(), 1)));
+    }
+
+    @Test
+    @DisplayName("같은 멱등 키로 다시 요청하면 데이터베이스에 접근하지 않고 처음 응답을 돌려준다.")
+    void retryFromMemory() {
+        // given
+        String idempotencyKey = UUID.randomUUID().toString();
+        CreateOrderResponse first = idempotentOrderService.create(idempotencyKey, request);
+        entityManager.flush();
+
+        // when
+        CreateOrderResponse retried = atMost(0, () -> idempotentOrderService.create(idempotencyKey, request));
+
+        // then
+        assertThat(retried.getId()).isEqualTo(first.getId());
+        assertThat(orderRepository.findAllByOrderTableId(table.getId())).hasSize(1);
+    }
+
+    @Test
+    @DisplayName("메모리에 없는 멱등 키도 저장된 키로 처음 등록한 주문을 찾아 응답한다.")
+    void retryFromTable() {
+        // given
+        String idempotencyKey = UUID.randomUUID().toString();
+        CreateOrderResponse first = store.create(idempotencyKey, REQUEST_HASH, request);
+        entityManager.flush();
+        entityManager.clear();
+
+        // when
+        CreateOrderResponse retried = store.create(idempotencyKey, REQUEST_HASH, request);
+
+        // then
+        assertThat(retried.getId()).isEqualTo(first.getId());
+        assertThat(retried.getOrderLineItems()).hasSize(1);
+        assertThat(orderRepository.findAllByOrderTableId(table.getId())).hasSize(1);
+    }
+
+    @Test
+    @DisplayName("저장된 멱등 키와 요청 해시가 다르면 주문을 등록하지 않고 거절한다.")
+    void retryWithOtherRequest() {
+        // given
+        String idempotencyKey = UUID.randomUUID().toString();
+        store.create(idempotencyKey, REQUEST_HASH, request);
+        entityManager.flush();
+        entityManager.clear();
+
+        // when & then
+        assertThatThrownBy(() -> store.create(idempotencyKey, "other-request-hash", request))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("같은 멱등 키로 다른 주문을 요청할 수 없습니다.");
+        assertThat(orderRepository.findAllByOrderTableId(table.getId())).hasSize(1);
+    }
+
+    @Test
+    @DisplayName("보관 기간이 지난 멱등 키로 요청하면 새 주문을 등록한다.")
+    void expired() {
+        // given
+        String idempotencyKey = UUID.randomUUID().toString();
+        CreateOrderResponse first = store.create(idempotencyKey, REQUEST_HASH, request);
+        entityManager.flush();
+        entityManager.clear();
+        idempotencyKeyRepository.deleteById(idempotencyKey);
+        idempotencyKeyRepository.save(new OrderIdempotencyKey(idempotencyKey, first.getId(), REQUEST_HASH, LocalDateTime.now().minusDays(2)));
+        entityManager.flush();
+        entityManager.clear();
+
+        // when
+        CreateOrderResponse actual = store.create(idempotencyKey, REQUEST_HASH, request);
+        entityManager.flush();
+
+        // then
+        assertThat(actual.getId()).isNotEqualTo(first.getId());
+        assertThat(idempotencyKeyRepository.findById(idempotencyKey)).get()
+                                                                     .extracting(OrderIdempotencyKey::getOrderId)
+                                                                     .isEqualTo(actual.getId());
+    }
+
+    @Test
+    @DisplayName("보관 기간이 지난 멱등 키는 다른 요청으로도 새 주문을 등록하고 요청 해시를 바꾼다.")
+    void expiredWithOtherRequest() {
+        // given
+        String idempotencyKey = UUID.randomUUID().toString();
+        CreateOrderResponse first = store.create(idempotencyKey, REQUEST_HASH, request);
+        entityManager.flush();
+        entityManager.clear();
+        idempotencyKeyRepository.deleteById(idempotencyKey);
+        idempotencyKeyRepository.save(new OrderIdempotencyKey(idempotencyKey, first.getId(), REQUEST_HASH, LocalDateTime.now().minusDays(2)));
+        entityManager.flush();
+        entityManager.clear();
+
+        // when
+        store.create(idempotencyKey, "other-request-hash", request);
+        entityManager.flush();
+
+        // then
+        assertThat(idempotencyKeyRepository.findById(idempotencyKey)).get()
+                                                                     .extracting(OrderIdempotencyKey::getRequestHash)
+                                                                     .isEqualTo("other-request-hash");
+    }
+
+    @Test
+    @DisplayName("보관 기간이 지난 멱등 키를 지운다.")
+    void purgeExpired() {
+        // given
+        CreateOrderResponse created = store.create(UUID.randomUUID().toString(), REQUEST_HASH, request);
+        String expiredKey = UUID.randomUUID().toString();
+        idempotencyKeyRepository.save(new OrderIdempotencyKey(expiredKey, created.getId(), REQUEST_HASH, LocalDateTime.now().minusDays(2)));
+        entityManager.flush();
+
+        // when
+        int purged = store.purgeExpired();
+
+        // then
+        assertThat(purged).isGreaterThanOrEqualTo(1);
+        assertThat(idempotencyKeyRepository.findById(expiredKey)).isEmpty();
+        assertThat(idempotencyKeyRepository.count()).isGreaterThanOrEqualTo(1);
+    }
+}
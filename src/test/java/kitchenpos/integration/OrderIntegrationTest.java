@@ -1,7 +1,13 @@
 package kitchenpos.integration;
 
 import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import javax.persistence.EntityManager;
 
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
@@ -9,23 +15,31 @@ import org.springframework.transaction.annotation.Transactional;
 
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
 
-import kitchenpos.menu.application.MenuService;
 import kitchenpos.menu.domain.Menu;
 import kitchenpos.menu.domain.MenuRepository;
-import kitchenpos.menu.ui.request.ChangeNamePriceRequest;
 import kitchenpos.menugroup.domain.MenuGroup;
 import kitchenpos.menugroup.domain.MenuGroupRepository;
 import kitchenpos.order.application.OrderService;
-import kitchenpos.order.domain.Order;
-import kitchenpos.order.domain.OrderLineItem;
 import kitchenpos.order.domain.OrderRepository;
+import kitchenpos.order.domain.OrderStatus;
+import kitchenpos.order.ui.request.ChangeOrderStatusRequest;
 import kitchenpos.order.ui.request.CreateOrderRequest;
+import kitchenpos.order.ui.request.CreateOrdersRequest;
+import kitchenpos.order.ui.request.OrderExportRequest;
 import kitchenpos.order.ui.request.OrderLineItemRequest;
+import kitchenpos.order.ui.request.OrderSearchRequest;
 import kitchenpos.order.ui.response.CreateOrderResponse;
+import kitchenpos.order.ui.response.CreateOrderResultResponse;
+import kitchenpos.order.ui.response.CreateOrdersResponse;
+import kitchenpos.order.ui.response.OrderPageResponse;
+import kitchenpos.order.ui.response.OrderResponse;
 import kitchenpos.table.domain.OrderTable;
 import kitchenpos.table.domain.OrderTableRepository;
 
+import static kitchenpos.support.QueryBudget.atMost;
 import static org.assertj.core.api.Assertions.assertThat;
 
 @DisplayName("Order 통합 테스트")
@@ -46,42 +60,97 @@ class OrderIntegrationTest {
     private OrderRepository orderRepository;
 
     @Autowired
-    private MenuService menuService;
+    private OrderService orderService;
 
     @Autowired
-    private OrderService orderService;
+    private EntityManager entityManager;
 
-    @Test
-    @DisplayName("메뉴(Menu)의 이름, 가격을 변경해도 변경 전 주문 항목(OrderLineItem)의 메뉴 이름, 가격은 변경되지 않는다.")
-    void notAffectBeforeChangeMenu() {
+    @ParameterizedTest
+    @ValueSource(ints = {1, 10, 30})
+    @DisplayName("주문 목록을 조회할 때 실행되는 쿼리 수는 조회되는 주문 수와 관계없이 일정하다.")
+    void listWithConstantQueries(int numberOfOrders) {
         // given
         MenuGroup 치킨_메뉴 = menuGroup_생성("치킨 메뉴");
-        Menu originalMenu = menu_생성("Old 후라이드 set", BigDecimal.valueOf(13000), 치킨_메뉴.getId());
-
+        Menu menu = menu_생성("후라이드 set", BigDecimal.valueOf(13000), 치킨_메뉴.getId());
         OrderTable table = table_생성(4, false);
+        for (int i = 0; i < numberOfOrders; i++) {
+            orderService.create(new CreateOrderRequest(
+                    table.getId(),
+                    Arrays.asList(new OrderLineItemRequest(menu.getId(), 1), new OrderLineItemRequest(menu.getId(), 2))
+            ));
+        }
+        entityManager.flush();
+        entityManager.clear();
 
-        CreateOrderRequest createOrderRequest = new CreateOrderRequest(
-                table.getId(),
-                Collections.singletonList(new OrderLineItemRequest(originalMenu.getId(), 1))
-        );
-        CreateOrderResponse order = orderService.create(createOrderRequest);
+        // when
+        OrderPageResponse actual = atMost(2, () -> orderService.list(new OrderSearchRequest(null, 100, null, table.getId(), null, null)));
 
-        ChangeNamePriceRequest changeRequest = new ChangeNamePriceRequest(
-                "New 후라이드 set",
-                BigDecimal.valueOf(15000)
-        );
+        // then
+        assertThat(actual.getOrders()).hasSize(numberOfOrders);
+        assertThat(actual.getOrders()).allMatch(order -> order.getOrderLineItems().size() == 2);
+    }
+
+    @Test
+    @DisplayName("여러 주문을 한 번에 등록하면 올바른 주문만 등록된다.")
+    void createAll() {
+        // given
+        MenuGroup 치킨_메뉴 = menuGroup_생성("치킨 메뉴");
+        Menu menu = menu_생성("후라이드 set", BigDecimal.valueOf(13000), 치킨_메뉴.getId());
+        OrderTable table = table_생성(4, false);
+        OrderTable emptyTable = table_생성(0, true);
+
+        CreateOrdersRequest request = new CreateOrdersRequest(Arrays.asList(
+                new CreateOrderRequest(table.getId(), Collections.singletonList(new OrderLineItemRequest(menu.getId(), 1))),
+                new CreateOrderRequest(emptyTable.getId(), Collections.singletonList(new OrderLineItemRequest(menu.getId(), 1))),
+                new CreateOrderRequest(table.getId(), Arrays.asList(new OrderLineItemRequest(menu.getId(), 2), new OrderLineItemRequest(menu.getId(), 3)))
+        ));
 
         // when
-        menuService.changeNamePrice(originalMenu.getId(), changeRequest);
-        Menu changedMenu = menuRepository.findById(originalMenu.getId()).get();
+        CreateOrdersResponse actual = atMost(7, () -> {
+            CreateOrdersResponse response = orderService.createAll(request);
+            entityManager.flush();
+            return response;
+        });
+        entityManager.clear();
+
+        // then
+        assertThat(actual.getResults()).extracting(CreateOrderResultResponse::isSuccess)
+                                       .containsExactly(true, false, true);
+        assertThat(orderRepository.findAllByOrderTableId(table.getId())).hasSize(2);
+        assertThat(orderRepository.findAllByOrderTableId(emptyTable.getId())).isEmpty();
+    }
+
+    @Test
+    @DisplayName("조건에 맞는 주문을 주문 항목과 함께 내보낸다.")
+    void export() {
+        // given
+        LocalDateTime from = LocalDateTime.now();
+        MenuGroup 치킨_메뉴 = menuGroup_생성("치킨 메뉴");
+        Menu menu = menu_생성("후라이드 set", BigDecimal.valueOf(13000), 치킨_메뉴.getId());
+        OrderTable table = table_생성(4, false);
+        for (int i = 0; i < 30; i++) {
+            CreateOrderResponse created = orderService.create(new CreateOrderRequest(
+                    table.getId(),
+                    Arrays.asList(new OrderLineItemRequest(menu.getId(), 1), new OrderLineItemRequest(menu.getId(), 2))
+            ));
+            if (i % 3 == 0) {
+                orderService.changeOrderStatus(created.getId(), new ChangeOrderStatusRequest("MEAL"));
+            }
+        }
+        entityManager.flush();
+        entityManager.clear();
+        List<OrderResponse> exported = new ArrayList<>();
 
-        Order currentOrder = orderRepository.findById(order.getId()).get();
-        OrderLineItem orderLineItem = currentOrder.getOrderLineItemLists().get(0);
-        Menu orderedMenu = menuRepository.findById(orderLineItem.getMenuId()).get();
+        // when
+        atMost(2, () -> orderService.export(new OrderExportRequest(OrderStatus.MEAL, from, null), exported::add));
 
         // then
-        assertThat(changedMenu.getName()).isNotEqualTo(orderedMenu.getName());
-        assertThat(changedMenu.getPrice()).isNotEqualTo(orderedMenu.getPrice());
+        assertThat(exported).hasSize(10);
+        assertThat(exported).allMatch(order -> order.getOrderStatus() == OrderStatus.MEAL);
+        assertThat(exported).allMatch(order -> order.getOrderLineItems().size() == 2);
+        assertThat(exported).isSortedAccordingTo(
+                Comparator.comparing(OrderResponse::getOrderedTime).thenComparing(OrderResponse::getId)
+        );
     }
 
     private MenuGroup menuGroup_생성(String name) {
@@ -0,0 +1,164 @@
+package kitchenpos.integration;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import javax.persistence.EntityManager;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.transaction.AfterTransaction;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.annotation.Transactional;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import kitchenpos.menu.application.MenuCatalog;
+import kitchenpos.menu.application.MenuService;
+import kitchenpos.menu.ui.request.CreateMenuRequest;
+import kitchenpos.menu.ui.request.MenuProductRequest;
+import kitchenpos.menu.ui.response.MenuResponse;
+import kitchenpos.menugroup.domain.MenuGroup;
+import kitchenpos.menugroup.domain.MenuGroupRepository;
+import kitchenpos.order.application.OrderService;
+import kitchenpos.order.ui.request.CreateOrderRequest;
+import kitchenpos.order.ui.request.OrderLineItemRequest;
+import kitchenpos.product.application.ProductService;
+import kitchenpos.product.ui.request.CreateProductRequest;
+import kitchenpos.product.ui.response.ProductResponse;
+import kitchenpos.table.application.TableGroupService;
+import kitchenpos.table.domain.OrderTable;
+import kitchenpos.table.domain.OrderTableRepository;
+import kitchenpos.table.ui.request.CreateTableGroupRequest;
+import kitchenpos.table.ui.request.TableIdRequest;
+
+import static kitchenpos.support.QueryBudget.atMost;
+import static org.hamcrest.Matchers.hasItem;
+import static org.hamcrest.Matchers.hasSize;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@DisplayName("목록 조회 쿼리 수 통합 테스트")
+@SpringBootTest
+@AutoConfigureMockMvc
+@Transactional
+class QueryBudgetIntegrationTest {
+    private static final int NUMBER_OF_PARENTS = 5;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private ProductService productService;
+
+    @Autowired
+    private MenuService menuService;
+
+    @Autowired
+    private MenuCatalog menuCatalog;
+
+    @Autowired
+    private MenuGroupRepository menuGroupRepository;
+
+    @Autowired
+    private OrderService orderService;
+
+    @Autowired
+    private OrderTableRepository orderTableRepository;
+
+    @Autowired
+    private TableGroupService tableGroupService;
+
+    @AfterTransaction
+    void rebuildCatalog() {
+        // 롤백된 메뉴가 스냅샷에 남지 않도록 다시 만든다.
+        menuCatalog.rebuild();
+    }
+
+    @Test
+    @DisplayName("메뉴 목록은 메뉴 수와 관계없이 버전과 메뉴를 각각 한 번의 쿼리로 읽어 스냅샷을 만들고, 조회할 때는 쿼리를 실행하지 않는다.")
+    void listMenus() throws Exception {
+        // given
+        List<MenuResponse> menus = 메뉴들_생성();
+        flushAndClear();
+
+        // when
+        atMost(2, menuCatalog::rebuild);
+
+        // then
+        mockMvc.perform(get("/api/menus"))
+               .andExpect(status().isOk())
+               .andExpect(atMost(0))
+               .andExpect(jsonPath("$[*].name", hasItem(menus.get(NUMBER_OF_PARENTS - 1).getName())));
+    }
+
+    @Test
+    @DisplayName("주문 목록은 주문 수와 관계없이 주문과 주문 항목을 각각 한 번의 쿼리로 읽는다.")
+    void listOrders() throws Exception {
+        // given
+        List<MenuResponse> menus = 메뉴들_생성();
+        OrderTable table = orderTableRepository.save(new OrderTable(4, false));
+        for (int i = 0; i < NUMBER_OF_PARENTS; i++) {
+            orderService.create(new CreateOrderRequest(table.getId(), Arrays.asList(
+                    new OrderLineItemRequest(menus.get(0).getId(), 1),
+                    new OrderLineItemRequest(menus.get(1).getId(), 2)
+            )));
+        }
+        flushAndClear();
+
+        // when & then
+        mockMvc.perform(get("/api/orders").param("orderTableId", String.valueOf(table.getId())))
+               .andExpect(status().isOk())
+               .andExpect(atMost(2))
+               .andExpect(jsonPath("$.orders", hasSize(NUMBER_OF_PARENTS)))
+               .andExpect(jsonPath("$.orders[*].orderLineItems[*]", hasSize(NUMBER_OF_PARENTS * 2)));
+    }
+
+    @Test
+    @DisplayName("테이블 목록은 테이블 그룹 수와 관계없이 한 번의 쿼리로 읽는다.")
+    void listTablesInGroups() throws Exception {
+        // given
+        for (int i = 0; i < NUMBER_OF_PARENTS; i++) {
+            OrderTable first = orderTableRepository.save(new OrderTable(0, true));
+            OrderTable second = orderTableRepository.save(new OrderTable(0, true));
+            tableGroupService.create(new CreateTableGroupRequest(Arrays.asList(
+                    new TableIdRequest(first.getId()),
+                    new TableIdRequest(second.getId())
+            )));
+        }
+        flushAndClear();
+
+        // when & then
+        mockMvc.perform(get("/api/tables"))
+               .andExpect(status().isOk())
+               .andExpect(atMost(1));
+    }
+
+    private List<MenuResponse> 메뉴들_생성() {
+        MenuGroup menuGroup = menuGroupRepository.save(new MenuGroup("치킨 메뉴"));
+        ProductResponse 후라이드 = productService.create(new CreateProductRequest("후라이드", BigDecimal.valueOf(16000)));
+        ProductResponse 양념 = productService.create(new CreateProductRequest("양념", BigDecimal.valueOf(17000)));
+        List<MenuResponse> menus = new ArrayList<>();
+        for (int i = 0; i < NUMBER_OF_PARENTS; i++) {
+            menus.add(menuService.create(new CreateMenuRequest(
+                    "반반 set " + i,
+                    BigDecimal.valueOf(30000),
+                    menuGroup.getId(),
+                    Arrays.asList(new MenuProductRequest(후라이드.getId(), 1), new MenuProductRequest(양념.getId(), 1))
+            )));
+        }
+        return menus;
+    }
+
+    private void flushAndClear() {
+        entityManager.flush();
+        entityManager.clear();
+    }
+}
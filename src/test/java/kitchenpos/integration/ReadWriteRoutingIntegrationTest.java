@@ -0,0 +1,94 @@
+package kitchenpos.integration;
+
+import java.sql.SQLException;
+import javax.sql.DataSource;
+
+import com.zaxxer.hikari.HikariDataSource;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import kitchenpos.datasource.DataSourceRouting;
+import kitchenpos.datasource.DataSourceRoutingConfig;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("읽기/쓰기 데이터소스 라우팅 통합 테스트")
+@SpringBootTest(properties = "kitchenpos.datasource.replica.max-lag-millis=0")
+class ReadWriteRoutingIntegrationTest {
+
+    @Autowired
+    @Qualifier(DataSourceRoutingConfig.PRIMARY_DATA_SOURCE)
+    private DataSource primaryDataSource;
+
+    @Autowired
+    @Qualifier(DataSourceRoutingConfig.REPLICA_DATA_SOURCE)
+    private DataSource replicaDataSource;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private HikariDataSource primary;
+    private HikariDataSource replica;
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        primary = primaryDataSource.unwrap(HikariDataSource.class);
+        replica = replicaDataSource.unwrap(HikariDataSource.class);
+    }
+
+    @Test
+    @DisplayName("읽기 전용 트랜잭션은 복제본 커넥션을 쓴다.")
+    void readOnly() {
+        // given
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        transactionTemplate.setReadOnly(true);
+
+        // when & then
+        transactionTemplate.executeWithoutResult(status -> {
+            jdbcTemplate.queryForObject("select count(*) from menu", Long.class);
+            assertThat(replica.getHikariPoolMXBean().getActiveConnections()).isEqualTo(1);
+            assertThat(primary.getHikariPoolMXBean().getActiveConnections()).isZero();
+        });
+    }
+
+    @Test
+    @DisplayName("읽기 전용이 아닌 트랜잭션은 주 데이터베이스 커넥션을 쓴다.")
+    void readWrite() {
+        // given
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+
+        // when & then
+        transactionTemplate.executeWithoutResult(status -> {
+            jdbcTemplate.queryForObject("select count(*) from menu", Long.class);
+            assertThat(primary.getHikariPoolMXBean().getActiveConnections()).isEqualTo(1);
+            assertThat(replica.getHikariPoolMXBean().getActiveConnections()).isZero();
+        });
+    }
+
+    @Test
+    @DisplayName("주 데이터베이스를 지정하면 읽기 전용 트랜잭션도 주 데이터베이스 커넥션을 쓴다.")
+    void onPrimary() {
+        // given
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        transactionTemplate.setReadOnly(true);
+
+        // when & then
+        DataSourceRouting.onPrimary(() -> transactionTemplate.executeWithoutResult(status -> {
+            jdbcTemplate.queryForObject("select count(*) from menu", Long.class);
+            assertThat(primary.getHikariPoolMXBean().getActiveConnections()).isEqualTo(1);
+            assertThat(replica.getHikariPoolMXBean().getActiveConnections()).isZero();
+        }));
+    }
+}
@@ -0,0 +1,99 @@
+package kitchenpos.integration;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import javax.servlet.http.Cookie;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+import kitchenpos.menugroup.ui.request.CreateMenuGroupRequest;
+
+import static kitchenpos.datasource.ReadYourWritesFilter.LAST_WRITE_COOKIE;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.cookie;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@DisplayName("호출자 단위 쓰기 후 읽기 통합 테스트")
+@SpringBootTest(properties = "kitchenpos.datasource.replica.max-lag-millis=60000")
+@AutoConfigureMockMvc
+class ReadYourWritesIntegrationTest {
+    private final ExecutorService otherThread = Executors.newSingleThreadExecutor();
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @AfterEach
+    void tearDown() {
+        otherThread.shutdownNow();
+    }
+
+    @Test
+    @DisplayName("쓰기 요청이 돌려준 쿠키를 가진 다음 요청은 다른 스레드에서 처리되어도 주 데이터베이스에서 읽는다.")
+    void readOwnWriteOnAnotherThread() throws Exception {
+        // given
+        Cookie lastWrite = mockMvc.perform(post("/api/menu-groups")
+                                          .contentType(MediaType.APPLICATION_JSON)
+                                          .content(objectMapper.writeValueAsString(new CreateMenuGroupRequest("치킨 메뉴"))))
+                                  .andExpect(status().isCreated())
+                                  .andExpect(cookie().exists(LAST_WRITE_COOKIE))
+                                  .andReturn()
+                                  .getResponse()
+                                  .getCookie(LAST_WRITE_COOKIE);
+        double replicaUsage = connectionUsage("replica");
+
+        // when
+        otherThread.submit(() -> mockMvc.perform(get("/api/menu-groups").cookie(lastWrite))
+                                        .andExpect(status().isOk()))
+                   .get(10, TimeUnit.SECONDS);
+
+        // then
+        assertThat(connectionUsage("replica")).isEqualTo(replicaUsage);
+    }
+
+    @Test
+    @DisplayName("쓰기를 처리한 스레드라도 쿠키가 없는 다음 요청은 복제본에서 읽는다.")
+    void readWithoutCookie() throws Exception {
+        // given
+        mockMvc.perform(post("/api/menu-groups")
+                       .contentType(MediaType.APPLICATION_JSON)
+                       .content(objectMapper.writeValueAsString(new CreateMenuGroupRequest("치킨 메뉴"))))
+               .andExpect(status().isCreated());
+        double replicaUsage = connectionUsage("replica");
+
+        // when
+        mockMvc.perform(get("/api/menu-groups"))
+               .andExpect(status().isOk())
+               .andExpect(cookie().doesNotExist(LAST_WRITE_COOKIE));
+
+        // then
+        assertThat(connectionUsage("replica")).isGreaterThan(replicaUsage);
+    }
+
+    private double connectionUsage(String pool) {
+        return meterRegistry.get("hikaricp.connections.usage")
+                            .tag("pool", pool)
+                            .timer()
+                            .count();
+    }
+}
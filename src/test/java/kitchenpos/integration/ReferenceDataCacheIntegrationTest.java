@@ -0,0 +1,218 @@
+package kitchenpos.integration;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import javax.persistence.EntityManagerFactory;
+
+import org.hibernate.Hibernate;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import kitchenpos.cache.CacheRegions;
+import kitchenpos.menu.application.MenuService;
+import kitchenpos.menu.domain.Menu;
+import kitchenpos.menu.domain.MenuProduct;
+import kitchenpos.menu.domain.MenuRepository;
+import kitchenpos.menu.domain.MenuValidator;
+import kitchenpos.menu.ui.request.ChangeNamePriceRequest;
+import kitchenpos.menu.ui.request.CreateMenuRequest;
+import kitchenpos.menu.ui.request.MenuProductRequest;
+import kitchenpos.menu.ui.response.MenuResponse;
+import kitchenpos.menugroup.domain.MenuGroup;
+import kitchenpos.menugroup.domain.MenuGroupRepository;
+import kitchenpos.product.application.ProductService;
+import kitchenpos.product.domain.Product;
+import kitchenpos.product.domain.ProductChangedEvent;
+import kitchenpos.product.domain.ProductPriceView;
+import kitchenpos.product.domain.ProductRepository;
+import kitchenpos.product.ui.request.CreateProductRequest;
+import kitchenpos.product.ui.response.ProductResponse;
+
+import static kitchenpos.support.QueryBudget.atMost;
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("기준 데이터 2차 캐시 통합 테스트")
+@SpringBootTest
+class ReferenceDataCacheIntegrationTest {
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private MenuGroupRepository menuGroupRepository;
+
+    @Autowired
+    private MenuRepository menuRepository;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Autowired
+    private MenuService menuService;
+
+    @Autowired
+    private ProductService productService;
+
+    @Autowired
+    private MenuValidator menuValidator;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private TransactionTemplate transactionTemplate;
+    private List<Product> products;
+    private MenuGroup menuGroup;
+    private Menu menu;
+
+    @BeforeEach
+    void setUp() {
+        transactionTemplate = new TransactionTemplate(transactionManager);
+        products = new ArrayList<>(productRepository.saveAll(Arrays.asList(
+                new Product("후라이드", BigDecimal.valueOf(16000)),
+                new Product("양념치킨", BigDecimal.valueOf(17000))
+        )));
+        menuGroup = menuGroupRepository.save(new MenuGroup("치킨 메뉴"));
+        MenuResponse created = menuService.create(new CreateMenuRequest(
+                "후라이드 set",
+                BigDecimal.valueOf(13000),
+                menuGroup.getId(),
+                Collections.singletonList(new MenuProductRequest(products.get(0).getId(), 1))
+        ));
+        menu = menuRepository.getOne(created.getId());
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.update("delete from menu_version where menu_id = ?", menu.getId());
+        jdbcTemplate.update("delete from menu_product where menu_id = ?", menu.getId());
+        jdbcTemplate.update("delete from menu where id = ?", menu.getId());
+        jdbcTemplate.update("delete from menu_group where id = ?", menuGroup.getId());
+        products.forEach(product -> jdbcTemplate.update("delete from product where id = ?", product.getId()));
+    }
+
+    @Test
+    @DisplayName("한 번 읽은 상품과 메뉴 그룹은 다음 요청부터 데이터베이스에 접근하지 않고 캐시에서 읽는다.")
+    void readFromCache() {
+        // given
+        List<Long> productIds = Arrays.asList(products.get(0).getId(), products.get(1).getId());
+        transactionTemplate.execute(status -> productRepository.findPriceViewsByIdIn(productIds));
+        double hits = cacheGets(CacheRegions.PRODUCT, "hit");
+
+        // when
+        List<ProductPriceView> actual = transactionTemplate.execute(status ->
+                atMost(0, () -> productRepository.findPriceViewsByIdIn(productIds))
+        );
+        transactionTemplate.execute(status -> {
+            menuValidator.validateMenuGroup(menuGroup.getId());
+            atMost(0, () -> menuValidator.validateMenuGroup(menuGroup.getId()));
+            return null;
+        });
+
+        // then
+        assertThat(actual).extracting(ProductPriceView::getId).containsExactlyElementsOf(productIds);
+        assertThat(cacheGets(CacheRegions.PRODUCT, "hit")).isEqualTo(hits + 2);
+    }
+
+    @Test
+    @DisplayName("메뉴 변경이 커밋되면 메뉴와 메뉴 상품 컬렉션을 캐시에서 지우고, 주 데이터베이스에서 다시 읽어 채운다.")
+    void evictMenuAfterChange() {
+        // given
+        transactionTemplate.execute(status -> Hibernate.isInitialized(menuWithMenuProducts()));
+        jdbcTemplate.update("update menu_product set quantity = ? where menu_id = ?", 2, menu.getId());
+        double replicaUsage = connectionUsage("replica");
+
+        // when
+        menuService.changeNamePrice(menu.getId(), new ChangeNamePriceRequest("양념 set", BigDecimal.valueOf(14000)));
+
+        // then
+        assertThat(connectionUsage("replica")).isEqualTo(replicaUsage);
+        assertThat(entityManagerFactory.getCache().contains(Menu.class, menu.getId())).isTrue();
+        Menu actual = transactionTemplate.execute(status -> atMost(0, this::menuWithMenuProducts));
+        assertThat(actual.getName()).isEqualTo("양념 set");
+        assertThat(actual.getMenuProducts()).extracting(MenuProduct::getQuantity).containsOnly(2L);
+    }
+
+    @Test
+    @DisplayName("상품 등록이 커밋되면 주 데이터베이스에서 읽어 캐시에 채운다.")
+    void loadProductAfterCreate() {
+        // given
+        double replicaUsage = connectionUsage("replica");
+
+        // when
+        ProductResponse created = productService.create(new CreateProductRequest("간장치킨", BigDecimal.valueOf(17000)));
+        products.add(productRepository.getOne(created.getId()));
+
+        // then
+        assertThat(connectionUsage("replica")).isEqualTo(replicaUsage);
+        assertThat(cached(created.getId())).isTrue();
+        Product actual = transactionTemplate.execute(status -> atMost(0, () -> productRepository.findById(created.getId()).get()));
+        assertThat(actual.getName()).isEqualTo("간장치킨");
+    }
+
+    @Test
+    @DisplayName("상품 변경 이벤트가 롤백되면 캐시를 지우지 않는다.")
+    void notEvictWhenRolledBack() {
+        // given
+        Long productId = products.get(0).getId();
+        transactionTemplate.execute(status -> productRepository.findById(productId));
+
+        // when
+        transactionTemplate.execute(status -> {
+            eventPublisher.publishEvent(new ProductChangedEvent(productId));
+            status.setRollbackOnly();
+            return null;
+        });
+
+        // then
+        assertThat(cached(productId)).isTrue();
+    }
+
+    private Menu menuWithMenuProducts() {
+        Menu found = menuRepository.findById(menu.getId()).get();
+        Hibernate.initialize(found.getMenuProducts());
+        return found;
+    }
+
+    private double connectionUsage(String pool) {
+        return meterRegistry.get("hikaricp.connections.usage")
+                            .tag("pool", pool)
+                            .timer()
+                            .count();
+    }
+
+    private boolean cached(Long productId) {
+        return entityManagerFactory.getCache().contains(Product.class, productId);
+    }
+
+    private double cacheGets(String cache, String result) {
+        FunctionCounter counter = meterRegistry.find("cache.gets")
+                                               .tag("cache", cache)
+                                               .tag("result", result)
+                                               .functionCounter();
+        return counter == null ? 0 : counter.count();
+    }
+}
@@ -0,0 +1,102 @@
+package kitchenpos.integration;
+
+import java.util.List;
+import java.util.Map;
+import javax.management.MBeanServer;
+import javax.management.MalformedObjectNameException;
+import javax.management.ObjectName;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.annotation.Transactional;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+import kitchenpos.metrics.QueryCountFilter;
+import kitchenpos.table.domain.OrderTable;
+import kitchenpos.table.domain.OrderTableRepository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@DisplayName("운영 프로파일 쿼리 로그 통합 테스트")
+@ActiveProfiles("prod")
+// @SpringBootTest 는 JMX 를 꺼 두므로, 운영 설정처럼 다시 켠다.
+@SpringBootTest(properties = {"kitchenpos.sql-log.slow-threshold-millis=0", "spring.jmx.enabled=true"})
+@AutoConfigureMockMvc
+@Transactional
+class SqlLogIntegrationTest {
+    private static final ObjectName SQL_BINDS = objectName("org.springframework.boot:type=Endpoint,name=Sqlbinds");
+
+    @Autowired
+    private OrderTableRepository orderTableRepository;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private MBeanServer mBeanServer;
+
+    @Test
+    @DisplayName("실행한 쿼리와 바인딩 파라미터를 버퍼에 남기고, JMX 엔드포인트로 최근 것부터 조회한다.")
+    @SuppressWarnings("unchecked")
+    void dumpBindParameters() throws Exception {
+        // given
+        orderTableRepository.saveAndFlush(new OrderTable(7, false));
+
+        // when
+        List<Map<String, Object>> recent = (List<Map<String, Object>>) mBeanServer.invoke(SQL_BINDS, "recent", new Object[0], new String[0]);
+
+        // then
+        assertThat((String) recent.get(0).get("sql")).contains("insert into order_table");
+        assertThat((List<List<Object>>) recent.get(0).get("parameters")).first().asList().contains(7);
+        assertThat(recent.get(0).get("elapsedMillis")).isInstanceOf(Number.class);
+    }
+
+    @Test
+    @DisplayName("바인딩 파라미터 엔드포인트는 HTTP 로 노출하지 않는다.")
+    void sqlBindsNotExposedOverHttp() throws Exception {
+        mockMvc.perform(get("/actuator/sqlbinds"))
+               .andExpect(status().isNotFound());
+    }
+
+    @Test
+    @DisplayName("느린 쿼리 기준 시간을 넘긴 쿼리 수를 센다.")
+    void countSlowQueries() {
+        // given
+        double before = meterRegistry.counter("kitchenpos.sql.slow").count();
+
+        // when
+        orderTableRepository.count();
+
+        // then
+        assertThat(meterRegistry.counter("kitchenpos.sql.slow").count()).isEqualTo(before + 1);
+    }
+
+    @Test
+    @DisplayName("운영 프로파일에서는 응답에 쿼리 수 헤더를 담지 않는다.")
+    void withoutQueryCountHeader() throws Exception {
+        mockMvc.perform(get("/api/tables"))
+               .andExpect(status().isOk())
+               .andExpect(header().doesNotExist(QueryCountFilter.COUNT_HEADER));
+    }
+
+    private static ObjectName objectName(String name) {
+        try {
+            return new ObjectName(name);
+        } catch (MalformedObjectNameException e) {
+            throw new IllegalArgumentException(e);
+        }
+    }
+}
@@ -0,0 +1,231 @@
+package kitchenpos.integration;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import javax.persistence.EntityManager;
+
+import org.hibernate.Session;
+import org.hibernate.engine.spi.EntityKey;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import kitchenpos.order.domain.Order;
+import kitchenpos.order.domain.OrderRepository;
+import kitchenpos.order.domain.OrderStatus;
+import kitchenpos.table.application.TableGroupService;
+import kitchenpos.table.application.TableService;
+import kitchenpos.table.domain.OrderTable;
+import kitchenpos.table.domain.OrderTableRepository;
+import kitchenpos.table.domain.TableGroupRepository;
+import kitchenpos.table.ui.request.ChangeTableEmptyRequest;
+import kitchenpos.table.ui.request.CreateTableGroupRequest;
+import kitchenpos.table.ui.request.TableIdRequest;
+import kitchenpos.table.ui.response.TableGroupResponse;
+import kitchenpos.table.ui.response.TableResponse;
+
+import static kitchenpos.support.QueryBudget.atMost;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("Table 통합 테스트")
+@SpringBootTest
+@Transactional
+class TableIntegrationTest {
+
+    @Autowired
+    private OrderTableRepository orderTableRepository;
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @Autowired
+    private TableGroupRepository tableGroupRepository;
+
+    @Autowired
+    private TableService tableService;
+
+    @Autowired
+    private TableGroupService tableGroupService;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Test
+    @DisplayName("테이블의 빈 상태를 변경할 때 지난 주문들을 불러오지 않는다.")
+    void changeEmptyWithoutLoadingOrders() {
+        // given
+        OrderTable table = orderTableRepository.save(new OrderTable(4, false));
+        for (int i = 0; i < 10; i++) {
+            order_생성(table.getId(), OrderStatus.COMPLETION);
+        }
+        entityManager.flush();
+        entityManager.clear();
+
+        // when
+        TableResponse actual = atMost(3, () -> {
+            TableResponse response = tableService.changeEmpty(table.getId(), new ChangeTableEmptyRequest(true));
+            entityManager.flush();
+            return response;
+        });
+
+        // then
+        assertThat(actual.isEmpty()).isTrue();
+        assertThat(loadedEntityNames()).doesNotContain(Order.class.getName());
+    }
+
+    @Test
+    @DisplayName("조리중이나 식사중인 주문이 있으면 테이블의 빈 상태를 변경할 수 없다.")
+    void changeEmptyWithOrderInProgress() {
+        // given
+        OrderTable table = orderTableRepository.save(new OrderTable(4, false));
+        order_생성(table.getId(), OrderStatus.COMPLETION);
+        order_생성(table.getId(), OrderStatus.MEAL);
+
+        // when & then
+        assertThatThrownBy(() -> tableService.changeEmpty(table.getId(), new ChangeTableEmptyRequest(true)))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("주문 상태가 조리중이나 식사중입니다.");
+    }
+
+    @Test
+    @DisplayName("그룹을 해제할 때 테이블 수와 관계없이 주문 확인과 테이블 변경을 각각 한 번의 쿼리로 처리한다.")
+    void ungroupWithConstantQueries() {
+        // given
+        List<OrderTable> tables = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            tables.add(orderTableRepository.save(new OrderTable(0, true)));
+        }
+        TableGroupResponse tableGroup = 그룹_생성(tables);
+        tables.forEach(table -> order_생성(table.getId(), OrderStatus.COMPLETION));
+        entityManager.flush();
+        entityManager.clear();
+
+        // when
+        atMost(4, () -> {
+            tableGroupService.ungroup(tableGroup.getId());
+            entityManager.flush();
+        });
+
+        // then
+        assertThat(orderTableRepository.findAllById(ids(tables)))
+                .allSatisfy(table -> {
+                    assertThat(table.getTableGroup()).isNull();
+                    assertThat(table.isEmpty()).isFalse();
+                });
+    }
+
+    @Test
+    @DisplayName("그룹의 테이블 중 하나라도 조리중이나 식사중인 주문이 있으면 그룹을 해제할 수 없다.")
+    void ungroupWithOrderInProgress() {
+        // given
+        List<OrderTable> tables = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            tables.add(orderTableRepository.save(new OrderTable(0, true)));
+        }
+        TableGroupResponse tableGroup = 그룹_생성(tables);
+        order_생성(tables.get(2).getId(), OrderStatus.COOKING);
+
+        // when & then
+        assertThatThrownBy(() -> tableGroupService.ungroup(tableGroup.getId()))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("주문 상태가 조리중이나 식사중입니다.");
+    }
+
+    @Test
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    @DisplayName("같은 테이블로 동시에 그룹을 지정하면 하나의 요청만 성공한다.")
+    void createConcurrently() throws Exception {
+        // given
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        List<OrderTable> tables = transactionTemplate.execute(status -> Arrays.asList(
+                orderTableRepository.save(new OrderTable(0, true)),
+                orderTableRepository.save(new OrderTable(0, true))
+        ));
+        CountDownLatch locked = new CountDownLatch(1);
+        ExecutorService executorService = Executors.newSingleThreadExecutor();
+
+        try {
+            // when
+            Future<TableGroupResponse> first = executorService.submit(() -> transactionTemplate.execute(status -> {
+                TableGroupResponse response = 그룹_생성(tables);
+                locked.countDown();
+                sleep(300);
+                return response;
+            }));
+            locked.await(5, TimeUnit.SECONDS);
+
+            // then
+            assertThatThrownBy(() -> transactionTemplate.execute(status -> 그룹_생성(tables)))
+                    .isInstanceOf(IllegalArgumentException.class)
+                    .hasMessageStartingWith("테이블이 비어있지 않거나 이미 다른 그룹에 속한 테이블은 그룹으로 지정할 수 없습니다.");
+            assertThat(first.get(5, TimeUnit.SECONDS).getOrderTables()).hasSize(2);
+        } finally {
+            executorService.shutdown();
+            transactionTemplate.execute(status -> {
+                orderTableRepository.findAllById(ids(tables)).stream()
+                                    .map(OrderTable::getTableGroupId)
+                                    .filter(Objects::nonNull)
+                                    .distinct()
+                                    .forEach(tableGroupId -> {
+                                        orderTableRepository.ungroupAllByTableGroupId(tableGroupId);
+                                        tableGroupRepository.deleteById(tableGroupId);
+                                    });
+                orderTableRepository.deleteAll(tables);
+                return null;
+            });
+        }
+    }
+
+    private void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private TableGroupResponse 그룹_생성(List<OrderTable> tables) {
+        List<TableIdRequest> tableIds = tables.stream()
+                                              .map(table -> new TableIdRequest(table.getId()))
+                                              .collect(Collectors.toList());
+        return atMost(3, () -> tableGroupService.create(new CreateTableGroupRequest(tableIds)));
+    }
+
+    private List<Long> ids(List<OrderTable> tables) {
+        return tables.stream()
+                     .map(OrderTable::getId)
+                     .collect(Collectors.toList());
+    }
+
+    private Order order_생성(Long orderTableId, OrderStatus orderStatus) {
+        return orderRepository.save(new Order(null, orderTableId, orderStatus, LocalDateTime.now(), new ArrayList<>()));
+    }
+
+    // Hibernate 가 영속성 컨텍스트 통계를 타입 없는 Set 으로 돌려주므로 엔티티 이름만 꺼낸다.
+    private List<String> loadedEntityNames() {
+        List<String> entityNames = new ArrayList<>();
+        for (Object key : entityManager.unwrap(Session.class).getStatistics().getEntityKeys()) {
+            entityNames.add(((EntityKey) key).getEntityName());
+        }
+        return entityNames;
+    }
+}
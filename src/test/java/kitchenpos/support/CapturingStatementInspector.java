@@ -0,0 +1,32 @@
+package kitchenpos.support;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+// hibernate.session_factory.statement_inspector 로 등록하면 capture 안에서 Hibernate 가 실행하는 SQL 을 모은다.
+public class CapturingStatementInspector implements StatementInspector {
+    private static final long serialVersionUID = 1L;
+    private static final ThreadLocal<List<String>> CAPTURED = new ThreadLocal<>();
+
+    public static List<String> capture(Runnable action) {
+        List<String> captured = new ArrayList<>();
+        CAPTURED.set(captured);
+        try {
+            action.run();
+        } finally {
+            CAPTURED.remove();
+        }
+        return captured;
+    }
+
+    @Override
+    public String inspect(String sql) {
+        List<String> captured = CAPTURED.get();
+        if (captured != null) {
+            captured.add(sql);
+        }
+        return sql;
+    }
+}
@@ -0,0 +1,47 @@
+package kitchenpos.support;
+
+import java.util.function.Supplier;
+
+import org.springframework.test.web.servlet.ResultMatcher;
+
+import kitchenpos.metrics.QueryCount;
+import kitchenpos.metrics.QueryCounter;
+import kitchenpos.metrics.QueryCountFilter;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public final class QueryBudget {
+
+    private QueryBudget() {
+    }
+
+    public static ResultMatcher atMost(int statements) {
+        return result -> {
+            String header = result.getResponse().getHeader(QueryCountFilter.COUNT_HEADER);
+            String endpoint = result.getRequest().getMethod() + " " + result.getRequest().getRequestURI();
+            assertThat(header).as("%s 응답에 %s 헤더가 없습니다.", endpoint, QueryCountFilter.COUNT_HEADER)
+                              .isNotNull();
+            assertThat(Integer.parseInt(header)).as("%s 의 쿼리 수", endpoint)
+                                                .isLessThanOrEqualTo(statements);
+        };
+    }
+
+    public static <T> T atMost(int statements, Supplier<T> action) {
+        QueryCount count = QueryCounter.start();
+        T result;
+        try {
+            result = action.get();
+        } finally {
+            QueryCounter.stop(count);
+        }
+        assertThat(count.getStatements()).as("쿼리 수").isLessThanOrEqualTo(statements);
+        return result;
+    }
+
+    public static void atMost(int statements, Runnable action) {
+        atMost(statements, () -> {
+            action.run();
+            return null;
+        });
+    }
+}
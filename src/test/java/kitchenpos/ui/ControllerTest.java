@@ -4,6 +4,9 @@ import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.actuate.autoconfigure.metrics.MetricsAutoConfiguration;
+import org.springframework.boot.actuate.autoconfigure.metrics.export.simple.SimpleMetricsExportAutoConfiguration;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.test.web.servlet.MockMvc;
@@ -17,6 +20,7 @@ import kitchenpos.menugroup.application.MenuGroupService;
 import kitchenpos.menu.application.MenuService;
 import kitchenpos.menugroup.ui.MenuGroupRestController;
 import kitchenpos.menu.ui.MenuRestController;
+import kitchenpos.order.application.IdempotentOrderService;
 import kitchenpos.order.application.OrderService;
 import kitchenpos.order.ui.OrderRestController;
 import kitchenpos.product.application.ProductService;
@@ -36,6 +40,7 @@ import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.
         OrderRestController.class,
         TableGroupRestController.class
 })
+@ImportAutoConfiguration({MetricsAutoConfiguration.class, SimpleMetricsExportAutoConfiguration.class})
 public abstract class ControllerTest {
 
     @Autowired
@@ -62,6 +67,9 @@ public abstract class ControllerTest {
     @MockBean
     protected OrderService orderService;
 
+    @MockBean
+    protected IdempotentOrderService idempotentOrderService;
+
     @MockBean
     protected TableGroupService tableGroupService;
 
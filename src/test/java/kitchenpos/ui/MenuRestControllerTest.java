@@ -1,6 +1,8 @@
 package kitchenpos.ui;
 
+import java.io.OutputStream;
 import java.math.BigDecimal;
+import java.time.LocalDateTime;
 import java.util.Arrays;
 import java.util.List;
 
@@ -15,6 +17,7 @@ import kitchenpos.menu.ui.request.MenuProductRequest;
 import kitchenpos.menugroup.ui.response.MenuGroupResponse;
 import kitchenpos.menu.ui.response.MenuProductResponse;
 import kitchenpos.menu.ui.response.MenuResponse;
+import kitchenpos.menu.ui.response.MenuVersionResponse;
 
 import static kitchenpos.fixture.MenuFixture.더블간장;
 import static kitchenpos.fixture.MenuFixture.양념_단품;
@@ -26,6 +29,7 @@ import static kitchenpos.fixture.ProductFixture.후라이드치킨;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willAnswer;
 import static org.mockito.BDDMockito.willThrow;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
@@ -216,7 +220,11 @@ class MenuRestControllerTest extends ControllerTest {
                 MenuResponse.from(양념_단품),
                 MenuResponse.from(더블간장)
         );
-        given(menuService.list()).willReturn(expected);
+        byte[] json = objectMapper.writeValueAsBytes(expected);
+        willAnswer(invocation -> {
+            invocation.getArgument(0, OutputStream.class).write(json);
+            return null;
+        }).given(menuService).writeJson(any());
 
         // when
         ResultActions response = mockMvc.perform(get("/api/menus")
@@ -226,4 +234,22 @@ class MenuRestControllerTest extends ControllerTest {
         response.andExpect(status().isOk())
                 .andExpect(content().json(objectToJsonString(expected)));
     }
+
+    @Test
+    @DisplayName("특정 시점에 유효했던 메뉴 버전을 조회할 수 있다.")
+    void findVersion() throws Exception {
+        // given
+        LocalDateTime at = LocalDateTime.of(2021, 3, 1, 12, 0);
+        MenuVersionResponse expected = new MenuVersionResponse(3L, 양념_단품.getId(), 양념_단품.getName(), 양념_단품.getPrice().toBigDecimal(), LocalDateTime.of(2021, 1, 1, 0, 0));
+        given(menuService.findVersion(양념_단품.getId(), at)).willReturn(expected);
+
+        // when
+        ResultActions response = mockMvc.perform(get("/api/menus/" + 양념_단품.getId() + "/versions")
+                .param("at", "2021-03-01T12:00:00")
+                .contentType(MediaType.APPLICATION_JSON));
+
+        // then
+        response.andExpect(status().isOk())
+                .andExpect(content().json(objectToJsonString(expected)));
+    }
 }
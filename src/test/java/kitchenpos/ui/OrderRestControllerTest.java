@@ -3,7 +3,7 @@ package kitchenpos.ui;
 import java.time.LocalDateTime;
 import java.util.Arrays;
 import java.util.Collections;
-import java.util.List;
+import java.util.function.Consumer;
 
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.ResultActions;
@@ -14,9 +14,15 @@ import org.junit.jupiter.api.Test;
 import kitchenpos.order.domain.OrderStatus;
 import kitchenpos.order.ui.request.ChangeOrderStatusRequest;
 import kitchenpos.order.ui.request.CreateOrderRequest;
+import kitchenpos.order.ui.request.CreateOrdersRequest;
+import kitchenpos.order.ui.request.OrderExportRequest;
 import kitchenpos.order.ui.request.OrderLineItemRequest;
+import kitchenpos.order.ui.request.OrderSearchRequest;
 import kitchenpos.order.ui.response.CreateOrderResponse;
+import kitchenpos.order.ui.response.CreateOrderResultResponse;
+import kitchenpos.order.ui.response.CreateOrdersResponse;
 import kitchenpos.order.ui.response.OrderLineItemResponse;
+import kitchenpos.order.ui.response.OrderPageResponse;
 import kitchenpos.order.ui.response.OrderResponse;
 
 import static kitchenpos.fixture.MenuFixture.후라이드_단품;
@@ -28,8 +34,12 @@ import static kitchenpos.fixture.OrderTableFixture.단일_손님2_테이블;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willAnswer;
 import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
@@ -49,7 +59,7 @@ class OrderRestControllerTest extends ControllerTest {
                 단일_손님2_테이블.getId(),
                 OrderStatus.COOKING,
                 LocalDateTime.now(),
-                Collections.singletonList(new OrderLineItemResponse(1L, 후라이드_단품.getId(), 2))
+                Collections.singletonList(new OrderLineItemResponse(1L, 후라이드_단품.getId(), 후라이드_단품.getName(), 후라이드_단품.getPrice().toBigDecimal(), 2))
         );
         given(orderService.create(any(CreateOrderRequest.class))).willReturn(expected);
 
@@ -64,6 +74,36 @@ class OrderRestControllerTest extends ControllerTest {
                 .andExpect(content().json(objectToJsonString(expected)));
     }
 
+    @Test
+    @DisplayName("멱등 키와 함께 주문하면 같은 키로 다시 요청해도 처음 등록한 주문으로 응답한다.")
+    void createWithIdempotencyKey() throws Exception {
+        // given
+        CreateOrderRequest order = new CreateOrderRequest(
+                단일_손님2_테이블.getId(),
+                Collections.singletonList(new OrderLineItemRequest(후라이드_단품.getId(), 2))
+        );
+        CreateOrderResponse expected = new CreateOrderResponse(
+                1L,
+                단일_손님2_테이블.getId(),
+                OrderStatus.COOKING,
+                LocalDateTime.now(),
+                Collections.singletonList(new OrderLineItemResponse(1L, 후라이드_단품.getId(), 후라이드_단품.getName(), 후라이드_단품.getPrice().toBigDecimal(), 2))
+        );
+        given(idempotentOrderService.create(eq("terminal-1-0001"), any(CreateOrderRequest.class))).willReturn(expected);
+
+        // when
+        ResultActions response = mockMvc.perform(post("/api/orders")
+                .header("Idempotency-Key", "terminal-1-0001")
+                .content(objectToJsonString(order))
+                .contentType(MediaType.APPLICATION_JSON));
+
+        // then
+        response.andExpect(status().isCreated())
+                .andExpect(header().string("location", "/api/orders/" + expected.getId()))
+                .andExpect(content().json(objectToJsonString(expected)));
+        verify(orderService, never()).create(any(CreateOrderRequest.class));
+    }
+
     @Test
     @DisplayName("메뉴 목록은 하나이상 있어야한다.")
     void createWrongOrderLineItemsEmpty() throws Exception {
@@ -151,17 +191,52 @@ class OrderRestControllerTest extends ControllerTest {
     }
 
     @Test
-    @DisplayName("전체 주문을 조회할 수 있다.")
+    @DisplayName("여러 주문을 한 번에 등록할 수 있다.")
+    void createAll() throws Exception {
+        // given
+        CreateOrdersRequest request = new CreateOrdersRequest(Arrays.asList(
+                new CreateOrderRequest(단일_손님2_테이블.getId(), Collections.singletonList(new OrderLineItemRequest(후라이드_단품.getId(), 2))),
+                new CreateOrderRequest(단일_손님0_테이블1.getId(), Collections.singletonList(new OrderLineItemRequest(후라이드_단품.getId(), 2)))
+        ));
+        CreateOrdersResponse expected = new CreateOrdersResponse(Arrays.asList(
+                CreateOrderResultResponse.success(0, new CreateOrderResponse(
+                        1L,
+                        단일_손님2_테이블.getId(),
+                        OrderStatus.COOKING,
+                        LocalDateTime.now(),
+                        Collections.singletonList(new OrderLineItemResponse(1L, 후라이드_단품.getId(), 후라이드_단품.getName(), 후라이드_단품.getPrice().toBigDecimal(), 2))
+                )),
+                CreateOrderResultResponse.failure(1, "빈 테이블은 주문할 수 없습니다.")
+        ));
+        given(orderService.createAll(any(CreateOrdersRequest.class))).willReturn(expected);
+
+        // when
+        ResultActions response = mockMvc.perform(post("/api/orders/batch")
+                .content(objectToJsonString(request))
+                .contentType(MediaType.APPLICATION_JSON));
+
+        // then
+        response.andExpect(status().isOk())
+                .andExpect(content().json(objectToJsonString(expected)));
+    }
+
+    @Test
+    @DisplayName("주문 목록을 조회할 수 있다.")
     void list() throws Exception {
         // given
-        List<OrderResponse> expected = Arrays.asList(
-                OrderResponse.from(COOKING_ORDER),
-                OrderResponse.from(COMPLETION_ORDER)
+        OrderPageResponse expected = new OrderPageResponse(
+                Arrays.asList(OrderResponse.from(COOKING_ORDER), OrderResponse.from(COMPLETION_ORDER)),
+                COMPLETION_ORDER.getId(),
+                true
         );
-        given(orderService.list()).willReturn(expected);
+        given(orderService.list(any(OrderSearchRequest.class))).willReturn(expected);
 
         // when
         ResultActions response = mockMvc.perform(get("/api/orders")
+                .param("cursor", "0")
+                .param("size", "2")
+                .param("orderStatus", "COOKING")
+                .param("orderedTimeFrom", "2021-01-01T00:00:00")
                 .contentType(MediaType.APPLICATION_JSON));
 
         // then
@@ -169,6 +244,31 @@ class OrderRestControllerTest extends ControllerTest {
                 .andExpect(content().json(objectToJsonString(expected)));
     }
 
+    @Test
+    @DisplayName("주문을 한 줄에 하나씩 JSON 으로 내보낼 수 있다.")
+    void export() throws Exception {
+        // given
+        OrderResponse cooking = OrderResponse.from(COOKING_ORDER);
+        OrderResponse completion = OrderResponse.from(COMPLETION_ORDER);
+        willAnswer(invocation -> {
+            Consumer<OrderResponse> writer = invocation.getArgument(1);
+            writer.accept(cooking);
+            writer.accept(completion);
+            return null;
+        }).given(orderService).export(any(OrderExportRequest.class), any());
+
+        // when
+        ResultActions response = mockMvc.perform(get("/api/orders/export")
+                .param("orderStatus", "COMPLETION")
+                .param("orderedTimeFrom", "2021-01-01T00:00:00")
+                .param("orderedTimeTo", "2021-02-01T00:00:00"));
+
+        // then
+        response.andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith("application/x-ndjson"))
+                .andExpect(content().string(objectToJsonString(cooking) + "\n" + objectToJsonString(completion) + "\n"));
+    }
+
     @Test
     @DisplayName("주문 상태를 변경할 수 있다.")
     void changeOrderStatus() throws Exception {